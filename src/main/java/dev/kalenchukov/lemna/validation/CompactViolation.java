@@ -0,0 +1,437 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Класс компактного нарушения.
+ * <p>
+ * Названия параметров хранятся в массиве, общем для всех нарушений одного ограничения,
+ * а значения параметров - в массиве того же размера.
+ * Сообщение о нарушении формируется при первом вызове {@link #getMessage()}.
+ * Нарушение равно любому {@link Violating} с теми же полем, сообщением и параметрами.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class CompactViolation implements Violating
+{
+	/**
+	 * Название поля класса.
+	 */
+	@NotNull
+	private final String field;
+
+	/**
+	 * Код нарушения.
+	 */
+	@NotNull
+	private final String code;
+
+	/**
+	 * Сообщение о нарушении.
+	 */
+	@Nullable
+	private volatile String message;
+
+	/**
+	 * Способ формирования сообщения о нарушении.
+	 */
+	@Nullable
+	private volatile Supplier<@NotNull String> messageSupplier;
+
+	/**
+	 * Названия параметров нарушения.
+	 */
+	@NotNull
+	private final String @NotNull [] keys;
+
+	/**
+	 * Значения параметров нарушения.
+	 */
+	@NotNull
+	private final String @NotNull [] values;
+
+	/**
+	 * Хэш-код параметров нарушения.
+	 */
+	private final int paramsHash;
+
+	/**
+	 * Хэш-код нарушения.
+	 */
+	private int hash;
+
+	/**
+	 * Конструктор для {@code CompactViolation}.
+	 * <p>
+	 * Массив {@code keys} не копируется и может использоваться несколькими нарушениями,
+	 * поэтому не должен изменяться.
+	 *
+	 * @param field название поля класса.
+	 * @param code код нарушения.
+	 * @param messageSupplier способ формирования сообщения о нарушении.
+	 * @param keys названия параметров нарушения.
+	 * @param values значения параметров нарушения в порядке {@code keys}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code code} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code messageSupplier} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code keys} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code values} или одного из значений передан {@code null}.
+	 * @throws IllegalArgumentException если размеры {@code keys} и {@code values} различаются.
+	 */
+	public CompactViolation(@NotNull final String field,
+							@NotNull final String code,
+							@NotNull final Supplier<@NotNull String> messageSupplier,
+							@NotNull final String @NotNull [] keys,
+							@NotNull final String @NotNull ... values)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(code);
+		Objects.requireNonNull(messageSupplier);
+		Objects.requireNonNull(keys);
+		Objects.requireNonNull(values);
+
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException();
+		}
+
+		int paramsHash = 0;
+
+		for (int index = 0; index < values.length; index++)
+		{
+			paramsHash += keys[index].hashCode() ^ Objects.requireNonNull(values[index]).hashCode();
+		}
+
+		this.field = field;
+		this.code = code;
+		this.messageSupplier = messageSupplier;
+		this.keys = keys;
+		this.values = values;
+		this.paramsHash = paramsHash;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getField()
+	{
+		return this.field;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getCode()
+	{
+		return this.code;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getMessage()
+	{
+		String message = this.message;
+
+		if (message == null)
+		{
+			Supplier<String> messageSupplier = this.messageSupplier;
+
+			if (messageSupplier == null) {
+				return Objects.requireNonNull(this.message);
+			}
+
+			message = Objects.requireNonNull(messageSupplier.get());
+			this.message = message;
+			this.messageSupplier = null;
+		}
+
+		return message;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull String, @NotNull String> getParams()
+	{
+		return new Params(this.keys, this.values, this.paramsHash);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param obj {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(@Nullable final Object obj)
+	{
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Violating)) {
+			return false;
+		}
+
+		if (obj instanceof CompactViolation)
+		{
+			final CompactViolation violation = (CompactViolation) obj;
+
+			if (this.paramsHash != violation.paramsHash) {
+				return false;
+			}
+
+			if (!this.field.equals(violation.field)) {
+				return false;
+			}
+
+			if (this.keys == violation.keys && !Arrays.equals(this.values, violation.values)) {
+				return false;
+			}
+
+			if (this.keys != violation.keys && !this.getParams().equals(violation.getParams())) {
+				return false;
+			}
+
+			return this.getMessage().equals(violation.getMessage());
+		}
+
+		final Violating violation = (Violating) obj;
+
+		if (!Objects.equals(this.getField(), violation.getField())) {
+			return false;
+		}
+
+		if (!Objects.equals(this.getMessage(), violation.getMessage())) {
+			return false;
+		}
+
+		if (!Objects.equals(this.getParams(), violation.getParams())) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		int result = this.hash;
+
+		if (result == 0)
+		{
+			result = 31 * result + this.getField().hashCode();
+			result = 31 * result + this.getMessage().hashCode();
+			result = 31 * result + this.paramsHash;
+
+			this.hash = result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return "Violation{" +
+			"field='" + this.getField() + "', " +
+			"message='" + this.getMessage() + "', " +
+			"params=" + this.getParams() +
+			"}";
+	}
+
+	/**
+	 * Класс представления параметров нарушения.
+	 */
+	private static final class Params extends AbstractMap<@NotNull String, @NotNull String>
+	{
+		/**
+		 * Названия параметров нарушения.
+		 */
+		@NotNull
+		private final String @NotNull [] keys;
+
+		/**
+		 * Значения параметров нарушения.
+		 */
+		@NotNull
+		private final String @NotNull [] values;
+
+		/**
+		 * Хэш-код параметров нарушения.
+		 */
+		private final int hash;
+
+		/**
+		 * Конструктор для {@code Params}.
+		 *
+		 * @param keys названия параметров нарушения.
+		 * @param values значения параметров нарушения.
+		 * @param hash хэш-код параметров нарушения.
+		 */
+		private Params(@NotNull final String @NotNull [] keys,
+					   @NotNull final String @NotNull [] values,
+					   final int hash)
+		{
+			this.keys = keys;
+			this.values = values;
+			this.hash = hash;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return this.keys.length;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param key {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public boolean containsKey(@Nullable final Object key)
+		{
+			return this.get(key) != null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param key {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Nullable
+		@Override
+		public String get(@Nullable final Object key)
+		{
+			for (int index = 0; index < this.keys.length; index++)
+			{
+				if (this.keys[index].equals(key)) {
+					return this.values[index];
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			return this.hash;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public Set<Map.@NotNull Entry<@NotNull String, @NotNull String>> entrySet()
+		{
+			return new AbstractSet<>()
+			{
+				@NotNull
+				@Override
+				public Iterator<Map.Entry<String, String>> iterator()
+				{
+					return new Iterator<>()
+					{
+						private int index = 0;
+
+						@Override
+						public boolean hasNext()
+						{
+							return this.index < Params.this.keys.length;
+						}
+
+						@NotNull
+						@Override
+						public Map.Entry<String, String> next()
+						{
+							if (!this.hasNext()) {
+								throw new NoSuchElementException();
+							}
+
+							int index = this.index++;
+
+							return new AbstractMap.SimpleImmutableEntry<>(
+								Params.this.keys[index],
+								Params.this.values[index]
+							);
+						}
+					};
+				}
+
+				@Override
+				public int size()
+				{
+					return Params.this.keys.length;
+				}
+			};
+		}
+	}
+}
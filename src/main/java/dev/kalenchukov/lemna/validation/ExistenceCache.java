@@ -0,0 +1,393 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс кэша результатов проверки существования для ограничения
+ * {@link dev.kalenchukov.lemna.validation.constraints.Exist}.
+ * <p>
+ * Результаты хранятся по классу проверки существования и значению поля.
+ * Для существующих и несуществующих значений задаётся отдельное время жизни;
+ * при нулевом времени жизни такие результаты не кэшируются.
+ * При превышении максимального размера удаляются самые давно добавленные результаты.
+ * <p>
+ * Кэш включается методом {@link ValidationEngine#setExistenceCache(ExistenceCache)}
+ * и может одновременно использоваться из разных потоков.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ExistenceCache
+{
+	/**
+	 * Максимальное количество результатов.
+	 */
+	private final int maximumSize;
+
+	/**
+	 * Время жизни результата для существующих значений в наносекундах.
+	 */
+	private final long positiveTtl;
+
+	/**
+	 * Время жизни результата для несуществующих значений в наносекундах.
+	 */
+	private final long negativeTtl;
+
+	/**
+	 * Результаты проверки существования.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull Key, @NotNull Entry> entries;
+
+	/**
+	 * Ключи результатов в порядке добавления.
+	 * <p>
+	 * Изменения {@link #entries} и данного множества выполняются при удержании его монитора.
+	 */
+	@NotNull
+	private final Set<@NotNull Key> order;
+
+	/**
+	 * Количество попаданий.
+	 */
+	@NotNull
+	private final LongAdder hits;
+
+	/**
+	 * Количество промахов.
+	 */
+	@NotNull
+	private final LongAdder misses;
+
+	/**
+	 * Количество удалённых результатов.
+	 */
+	@NotNull
+	private final LongAdder evictions;
+
+	/**
+	 * Конструктор для {@code ExistenceCache}.
+	 *
+	 * @param maximumSize максимальное количество результатов.
+	 * @param positiveTtl время жизни результата для существующих значений.
+	 * @param negativeTtl время жизни результата для несуществующих значений.
+	 * @throws IllegalArgumentException если {@code maximumSize} меньше 1.
+	 * @throws IllegalArgumentException если {@code positiveTtl} или {@code negativeTtl} отрицательное.
+	 * @throws NullPointerException если в качестве {@code positiveTtl} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code negativeTtl} передан {@code null}.
+	 */
+	public ExistenceCache(final int maximumSize,
+						  @NotNull final Duration positiveTtl,
+						  @NotNull final Duration negativeTtl)
+	{
+		Objects.requireNonNull(positiveTtl);
+		Objects.requireNonNull(negativeTtl);
+
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException(String.valueOf(maximumSize));
+		}
+
+		if (positiveTtl.isNegative()) {
+			throw new IllegalArgumentException(positiveTtl.toString());
+		}
+
+		if (negativeTtl.isNegative()) {
+			throw new IllegalArgumentException(negativeTtl.toString());
+		}
+
+		this.maximumSize = maximumSize;
+		this.positiveTtl = ExistenceCache.toNanos(positiveTtl);
+		this.negativeTtl = ExistenceCache.toNanos(negativeTtl);
+		this.entries = new ConcurrentHashMap<>();
+		this.order = new LinkedHashSet<>();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+	}
+
+	/**
+	 * Возвращает результат проверки существования значения.
+	 * <p>
+	 * Результат с истёкшим временем жизни удаляется.
+	 *
+	 * @param existence класс проверки существования.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} существует, {@code false}, если не существует,
+	 * или {@code null} если результата нет или его время жизни истекло.
+	 * @throws NullPointerException если в качестве {@code existence} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@Nullable
+	public Boolean get(@NotNull final Class<?> existence, @NotNull final Object value)
+	{
+		Objects.requireNonNull(existence);
+		Objects.requireNonNull(value);
+
+		Key key = new Key(existence, value);
+		Entry entry = this.entries.get(key);
+
+		if (entry != null && entry.expiresAt - System.nanoTime() <= 0)
+		{
+			this.remove(key, entry);
+			entry = null;
+		}
+
+		if (entry == null)
+		{
+			this.misses.increment();
+
+			return null;
+		}
+
+		this.hits.increment();
+
+		return entry.exists;
+	}
+
+	/**
+	 * Сохраняет результат проверки существования значения.
+	 *
+	 * @param existence класс проверки существования.
+	 * @param value значение поля класса.
+	 * @param exists существование значения.
+	 * @throws NullPointerException если в качестве {@code existence} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public void put(@NotNull final Class<?> existence, @NotNull final Object value, final boolean exists)
+	{
+		Objects.requireNonNull(existence);
+		Objects.requireNonNull(value);
+
+		long ttl = exists ? this.positiveTtl : this.negativeTtl;
+
+		if (ttl == 0) {
+			return;
+		}
+
+		Key key = new Key(existence, value);
+		Entry entry = new Entry(exists, System.nanoTime() + ttl);
+
+		synchronized (this.order)
+		{
+			if (this.entries.put(key, entry) != null) {
+				return;
+			}
+
+			this.order.add(key);
+
+			Iterator<Key> eldest = this.order.iterator();
+
+			while (this.entries.size() > this.maximumSize && eldest.hasNext())
+			{
+				this.entries.remove(eldest.next());
+				eldest.remove();
+				this.evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Удаляет все результаты.
+	 */
+	public void clear()
+	{
+		synchronized (this.order)
+		{
+			this.entries.clear();
+			this.order.clear();
+		}
+	}
+
+	/**
+	 * Возвращает количество результатов.
+	 *
+	 * @return количество результатов, включая результаты с истёкшим временем жизни.
+	 */
+	public int size()
+	{
+		return this.entries.size();
+	}
+
+	/**
+	 * Возвращает количество попаданий.
+	 *
+	 * @return количество попаданий.
+	 */
+	public long getHitCount()
+	{
+		return this.hits.sum();
+	}
+
+	/**
+	 * Возвращает количество промахов.
+	 *
+	 * @return количество промахов.
+	 */
+	public long getMissCount()
+	{
+		return this.misses.sum();
+	}
+
+	/**
+	 * Возвращает количество результатов, удалённых из-за превышения максимального размера.
+	 *
+	 * @return количество удалённых результатов.
+	 */
+	public long getEvictionCount()
+	{
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Удаляет результат, если он не был заменён.
+	 *
+	 * @param key ключ результата.
+	 * @param entry удаляемый результат.
+	 */
+	private void remove(@NotNull final Key key, @NotNull final Entry entry)
+	{
+		synchronized (this.order)
+		{
+			if (this.entries.remove(key, entry)) {
+				this.order.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Возвращает время жизни в наносекундах.
+	 *
+	 * @param ttl время жизни.
+	 * @return время жизни в наносекундах.
+	 */
+	private static long toNanos(@NotNull final Duration ttl)
+	{
+		try
+		{
+			return ttl.toNanos();
+		}
+		catch (ArithmeticException exception)
+		{
+			return Long.MAX_VALUE / 2;
+		}
+	}
+
+	/**
+	 * Класс ключа результата.
+	 */
+	private static final class Key
+	{
+		/**
+		 * Класс проверки существования.
+		 */
+		@NotNull
+		private final Class<?> existence;
+
+		/**
+		 * Значение поля класса.
+		 */
+		@NotNull
+		private final Object value;
+
+		/**
+		 * Конструктор для {@code Key}.
+		 *
+		 * @param existence класс проверки существования.
+		 * @param value значение поля класса.
+		 */
+		private Key(@NotNull final Class<?> existence, @NotNull final Object value)
+		{
+			this.existence = existence;
+			this.value = value;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param obj {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(@Nullable final Object obj)
+		{
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			final Key key = (Key) obj;
+
+			return this.existence == key.existence && this.value.equals(key.value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			return 31 * this.existence.hashCode() + this.value.hashCode();
+		}
+	}
+
+	/**
+	 * Класс результата проверки существования.
+	 */
+	private static final class Entry
+	{
+		/**
+		 * Существование значения.
+		 */
+		private final boolean exists;
+
+		/**
+		 * Момент истечения времени жизни в наносекундах.
+		 */
+		private final long expiresAt;
+
+		/**
+		 * Конструктор для {@code Entry}.
+		 *
+		 * @param exists существование значения.
+		 * @param expiresAt момент истечения времени жизни в наносекундах.
+		 */
+		private Entry(final boolean exists, final long expiresAt)
+		{
+			this.exists = exists;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Класс реестра экземпляров классов с собственной реализацией проверки.
+ * <p>
+ * Зарегистрированные экземпляры используются ограничениями
+ * {@link dev.kalenchukov.lemna.validation.constraints.Exist} и
+ * {@link dev.kalenchukov.lemna.validation.constraints.Valid} вместо создания новых,
+ * независимо от заданного жизненного цикла.
+ * Это позволяет передавать экземпляры, созданные контейнером внедрения зависимостей.
+ * Также реестр хранит экземпляры с жизненным циклом {@link Lifecycle#ENGINE}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class InstanceRegistry
+{
+	/**
+	 * Зарегистрированные экземпляры.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull Class<?>, @NotNull Object> registered;
+
+	/**
+	 * Созданные экземпляры.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull Class<?>, @NotNull Object> created;
+
+	/**
+	 * Конструктор для {@code InstanceRegistry}.
+	 */
+	public InstanceRegistry()
+	{
+		this.registered = new ConcurrentHashMap<>();
+		this.created = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Регистрирует экземпляр класса.
+	 *
+	 * @param type класс.
+	 * @param instance экземпляр класса.
+	 * @param <T> тип класса.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instance} передан {@code null}.
+	 */
+	public <T> void register(@NotNull final Class<T> type, @NotNull final T instance)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(instance);
+
+		this.registered.put(type, instance);
+	}
+
+	/**
+	 * Удаляет зарегистрированный экземпляр класса.
+	 *
+	 * @param type класс.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	public void unregister(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
+
+		this.registered.remove(type);
+	}
+
+	/**
+	 * Возвращает зарегистрированный экземпляр класса.
+	 *
+	 * @param type класс.
+	 * @param <T> тип класса.
+	 * @return экземпляр класса, или {@code null} если он не зарегистрирован.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	@Nullable
+	public <T> T getRegistered(@NotNull final Class<T> type)
+	{
+		Objects.requireNonNull(type);
+
+		return type.cast(this.registered.get(type));
+	}
+
+	/**
+	 * Возвращает экземпляр класса.
+	 * <p>
+	 * Если экземпляр не зарегистрирован, он создаётся с помощью {@code factory}
+	 * один раз для данного реестра.
+	 *
+	 * @param type класс.
+	 * @param factory способ создания экземпляра.
+	 * @param <T> тип класса.
+	 * @return экземпляр класса.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code factory} передан {@code null}.
+	 */
+	@NotNull
+	public <T> T getInstance(@NotNull final Class<T> type, @NotNull final Supplier<? extends @NotNull T> factory)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(factory);
+
+		T instance = this.getRegistered(type);
+
+		if (instance != null) {
+			return instance;
+		}
+
+		return type.cast(this.created.computeIfAbsent(type, key -> Objects.requireNonNull(factory.get())));
+	}
+}
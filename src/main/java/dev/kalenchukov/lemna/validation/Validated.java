@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс проверенного объекта вместе с нарушениями.
+ *
+ * @param <T> тип объекта.
+ * @author Алексей Каленчуков
+ */
+public final class Validated<T>
+{
+	/**
+	 * Проверенный объект.
+	 */
+	@NotNull
+	private final T value;
+
+	/**
+	 * Нарушения.
+	 */
+	@NotNull
+	private final List<@NotNull Violating> violations;
+
+	/**
+	 * Конструктор для {@code Validated}.
+	 *
+	 * @param value проверенный объект.
+	 * @param violations нарушения.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code violations} передан {@code null}.
+	 */
+	public Validated(@NotNull final T value, @NotNull final List<@NotNull Violating> violations)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(violations);
+
+		this.value = value;
+		this.violations = List.copyOf(violations);
+	}
+
+	/**
+	 * Возвращает проверенный объект.
+	 *
+	 * @return проверенный объект.
+	 */
+	@NotNull
+	public T getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * Возвращает нарушения.
+	 *
+	 * @return коллекцию нарушений.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull Violating> getViolations()
+	{
+		return this.violations;
+	}
+
+	/**
+	 * Определяет корректность объекта.
+	 *
+	 * @return {@code true}, если нарушений нет, иначе {@code false}.
+	 */
+	public boolean isValid()
+	{
+		return this.violations.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param obj {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(@Nullable final Object obj)
+	{
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Validated)) {
+			return false;
+		}
+
+		final Validated<?> validated = (Validated<?>) obj;
+
+		if (!Objects.equals(this.getValue(), validated.getValue())) {
+			return false;
+		}
+
+		if (!Objects.equals(this.getViolations(), validated.getViolations())) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		int result = 0;
+
+		result = 31 * result + this.getValue().hashCode();
+		result = 31 * result + this.getViolations().hashCode();
+
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return "Validated{" +
+			"value=" + this.getValue() + ", " +
+			"violations=" + this.getViolations() +
+			"}";
+	}
+}
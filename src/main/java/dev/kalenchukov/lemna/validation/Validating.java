@@ -23,6 +23,7 @@ import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Интерфейс для реализации класса по проверке корректности значений полей класса.
@@ -68,4 +69,54 @@ public interface Validating
 	@UnmodifiableView
 	@NotNull
 	List<@NotNull Violating> validate();
+
+	/**
+	 * Проверяет поля класса на корректность и передаёт нарушения получателю.
+	 *
+	 * <p>
+	 * Реализация по умолчанию не поддерживает получателя нарушений.
+	 *
+	 * @param sink получатель нарушений.
+	 * @return {@code true}, если проверены все поля класса, иначе {@code false}.
+	 * @throws UnsupportedOperationException если реализация не поддерживает получателя нарушений.
+	 * @see ViolationSink
+	 */
+	default boolean validate(@NotNull final ViolationSink sink)
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Проверяет поля класса на корректность асинхронно.
+	 * <p>
+	 * По умолчанию поля проверяются методом {@link #validate()} в вызывающем потоке.
+	 *
+	 * @return результат, завершающийся коллекцией нарушений.
+	 * @see ValidationEngine#validateAsync(Object)
+	 */
+	@NotNull
+	default CompletableFuture<@NotNull List<@NotNull Violating>> validateAsync()
+	{
+		try
+		{
+			return CompletableFuture.completedFuture(this.validate());
+		}
+		catch (RuntimeException exception)
+		{
+			return CompletableFuture.failedFuture(exception);
+		}
+	}
+
+	/**
+	 * Определяет корректность полей класса.
+	 * Проверка останавливается на первом нарушенном ограничении и не формирует нарушения.
+	 * <p>
+	 * По умолчанию корректность определяется по результату {@link #validate()}.
+	 *
+	 * @return {@code true}, если значения всех полей корректны, иначе {@code false}.
+	 */
+	default boolean isValid()
+	{
+		return this.validate().isEmpty();
+	}
 }
@@ -0,0 +1,606 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.validators.ExistenceBatch;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Класс обработчика, проверяющего элементы потока {@link Flow}.
+ * <p>
+ * Каждый элемент передаётся подписчику вместе с нарушениями в виде {@link Validated}.
+ * У источника запрашивается не больше элементов, чем запросил подписчик,
+ * и одновременно проверяется не больше {@code parallelism} элементов.
+ * Существование значений полей элементов, полученных между запросами,
+ * проверяется пакетно, как в {@link ValidationEngine#validateAll(Collection)}.
+ * <p>
+ * Обработчик допускает одного подписчика.
+ *
+ * @param <T> тип элементов.
+ * @author Алексей Каленчуков
+ */
+public final class ValidatingProcessor<T> implements Flow.Processor<T, Validated<T>>
+{
+	/**
+	 * Механизм проверки.
+	 */
+	@NotNull
+	private final ValidationEngine validationEngine;
+
+	/**
+	 * Исполнитель проверок.
+	 */
+	@NotNull
+	private final Executor executor;
+
+	/**
+	 * Количество одновременно проверяемых элементов.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Сохранение порядка элементов.
+	 */
+	private final boolean ordered;
+
+	/**
+	 * Полученные и ещё не переданные на проверку элементы.
+	 */
+	@NotNull
+	private final Queue<@NotNull Item<T>> received;
+
+	/**
+	 * Проверяемые и ещё не переданные подписчику элементы в порядке получения.
+	 * Используется только внутри {@link #drain()}.
+	 */
+	@NotNull
+	private final Deque<@NotNull Item<T>> window;
+
+	/**
+	 * Счётчик запросов на обработку состояния.
+	 */
+	@NotNull
+	private final AtomicInteger wip;
+
+	/**
+	 * Количество элементов, запрошенных подписчиком и ещё не переданных ему.
+	 */
+	@NotNull
+	private final AtomicLong requested;
+
+	/**
+	 * Количество элементов, запрошенных у источника и ещё не полученных.
+	 */
+	@NotNull
+	private final AtomicLong outstanding;
+
+	/**
+	 * Подписка на источник.
+	 */
+	@NotNull
+	private final AtomicReference<Flow.Subscription> upstream;
+
+	/**
+	 * Подписчик.
+	 */
+	@NotNull
+	private final AtomicReference<Flow.Subscriber<? super Validated<T>>> downstream;
+
+	/**
+	 * Ошибка источника или проверки.
+	 */
+	@NotNull
+	private final AtomicReference<@Nullable Throwable> error;
+
+	/**
+	 * Завершение источника.
+	 */
+	private volatile boolean done;
+
+	/**
+	 * Отмена подписки подписчиком.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Передача подписчику завершающего сигнала.
+	 * Используется только внутри {@link #drain()}.
+	 */
+	private boolean terminated;
+
+	/**
+	 * Конструктор для {@code ValidatingProcessor}.
+	 * <p>
+	 * Элементы проверяются в общем пуле {@link ForkJoinPool#commonPool()}
+	 * по количеству доступных процессоров с сохранением порядка.
+	 *
+	 * @param validationEngine механизм проверки.
+	 * @throws NullPointerException если в качестве {@code validationEngine} передан {@code null}.
+	 */
+	public ValidatingProcessor(@NotNull final ValidationEngine validationEngine)
+	{
+		this(validationEngine, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), true);
+	}
+
+	/**
+	 * Конструктор для {@code ValidatingProcessor}.
+	 *
+	 * @param validationEngine механизм проверки.
+	 * @param executor исполнитель проверок.
+	 * @param parallelism количество одновременно проверяемых элементов.
+	 * @param ordered сохранение порядка элементов.
+	 * @throws NullPointerException если в качестве {@code validationEngine} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code executor} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code parallelism} меньше 1.
+	 */
+	public ValidatingProcessor(@NotNull final ValidationEngine validationEngine,
+							   @NotNull final Executor executor,
+							   final int parallelism,
+							   final boolean ordered)
+	{
+		Objects.requireNonNull(validationEngine);
+		Objects.requireNonNull(executor);
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(String.valueOf(parallelism));
+		}
+
+		this.validationEngine = validationEngine;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.ordered = ordered;
+		this.received = new ConcurrentLinkedQueue<>();
+		this.window = new ArrayDeque<>();
+		this.wip = new AtomicInteger();
+		this.requested = new AtomicLong();
+		this.outstanding = new AtomicLong();
+		this.upstream = new AtomicReference<>();
+		this.downstream = new AtomicReference<>();
+		this.error = new AtomicReference<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param subscriber {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code subscriber} передан {@code null}.
+	 */
+	@Override
+	public void subscribe(@NotNull final Flow.Subscriber<? super Validated<T>> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+
+		if (!this.downstream.compareAndSet(null, subscriber))
+		{
+			subscriber.onSubscribe(new Flow.Subscription()
+			{
+				@Override
+				public void request(final long n) { }
+
+				@Override
+				public void cancel() { }
+			});
+
+			subscriber.onError(new IllegalStateException(
+				MessageCatalog.getInstance(this.validationEngine.getLocale()).getException("20006")
+			));
+
+			return;
+		}
+
+		subscriber.onSubscribe(new Flow.Subscription()
+		{
+			@Override
+			public void request(final long n)
+			{
+				ValidatingProcessor.this.request(n);
+			}
+
+			@Override
+			public void cancel()
+			{
+				ValidatingProcessor.this.cancel();
+			}
+		});
+
+		this.drain();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param subscription {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code subscription} передан {@code null}.
+	 */
+	@Override
+	public void onSubscribe(@NotNull final Flow.Subscription subscription)
+	{
+		Objects.requireNonNull(subscription);
+
+		if (!this.upstream.compareAndSet(null, subscription))
+		{
+			subscription.cancel();
+
+			return;
+		}
+
+		if (this.cancelled)
+		{
+			subscription.cancel();
+
+			return;
+		}
+
+		this.drain();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param item {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code item} передан {@code null}.
+	 */
+	@Override
+	public void onNext(@NotNull final T item)
+	{
+		Objects.requireNonNull(item);
+
+		this.received.offer(new Item<>(item));
+		this.outstanding.decrementAndGet();
+		this.drain();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param throwable {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code throwable} передан {@code null}.
+	 */
+	@Override
+	public void onError(@NotNull final Throwable throwable)
+	{
+		Objects.requireNonNull(throwable);
+
+		this.error.compareAndSet(null, throwable);
+		this.done = true;
+		this.drain();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onComplete()
+	{
+		this.done = true;
+		this.drain();
+	}
+
+	/**
+	 * Добавляет запрос подписчика.
+	 *
+	 * @param n количество запрашиваемых элементов.
+	 */
+	private void request(final long n)
+	{
+		if (n <= 0)
+		{
+			this.fail(new IllegalArgumentException(String.valueOf(n)));
+
+			return;
+		}
+
+		this.requested.getAndUpdate(requested -> requested + n < 0 ? Long.MAX_VALUE : requested + n);
+		this.drain();
+	}
+
+	/**
+	 * Отменяет подписку подписчика и подписку на источник.
+	 */
+	private void cancel()
+	{
+		this.cancelled = true;
+		this.cancelUpstream();
+		this.drain();
+	}
+
+	/**
+	 * Завершает обработку с ошибкой.
+	 *
+	 * @param throwable ошибка.
+	 */
+	private void fail(@NotNull final Throwable throwable)
+	{
+		this.error.compareAndSet(null, throwable);
+		this.cancelUpstream();
+		this.drain();
+	}
+
+	/**
+	 * Отменяет подписку на источник.
+	 */
+	private void cancelUpstream()
+	{
+		Flow.Subscription subscription = this.upstream.get();
+
+		if (subscription != null) {
+			subscription.cancel();
+		}
+	}
+
+	/**
+	 * Обрабатывает состояние обработчика.
+	 * <p>
+	 * Одновременно состояние обрабатывает только один поток,
+	 * а запросы других потоков выполняются им повторно.
+	 */
+	private void drain()
+	{
+		if (this.wip.getAndIncrement() != 0) {
+			return;
+		}
+
+		int missed = 1;
+
+		do
+		{
+			Flow.Subscriber<? super Validated<T>> subscriber = this.downstream.get();
+
+			if (subscriber != null && !this.terminated) {
+				this.drain(subscriber);
+			}
+
+			missed = this.wip.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+
+	/**
+	 * Передаёт подписчику проверенные элементы, передаёт на проверку полученные
+	 * и запрашивает у источника новые элементы.
+	 *
+	 * @param subscriber подписчик.
+	 */
+	private void drain(@NotNull final Flow.Subscriber<? super Validated<T>> subscriber)
+	{
+		if (this.cancelled)
+		{
+			this.terminated = true;
+			this.window.clear();
+			this.received.clear();
+
+			return;
+		}
+
+		Throwable throwable = this.error.get();
+
+		if (throwable != null)
+		{
+			this.terminated = true;
+			this.window.clear();
+			this.received.clear();
+			subscriber.onError(throwable);
+
+			return;
+		}
+
+		long demand = this.requested.get();
+		long emitted = 0;
+
+		while (emitted != demand && !this.cancelled)
+		{
+			Item<T> item = this.pollValidated();
+
+			if (item == null) {
+				break;
+			}
+
+			subscriber.onNext(new Validated<>(item.value, Objects.requireNonNull(item.violations)));
+			emitted++;
+		}
+
+		if (emitted != 0 && demand != Long.MAX_VALUE) {
+			this.requested.addAndGet(-emitted);
+		}
+
+		if (this.cancelled) {
+			return;
+		}
+
+		if (this.done && this.window.isEmpty() && this.received.isEmpty())
+		{
+			this.terminated = true;
+			subscriber.onComplete();
+
+			return;
+		}
+
+		List<Item<T>> group = new ArrayList<>();
+		Item<T> item;
+
+		while ((item = this.received.poll()) != null)
+		{
+			group.add(item);
+			this.window.addLast(item);
+		}
+
+		if (!group.isEmpty()) {
+			this.execute(() -> this.validate(group));
+		}
+
+		Flow.Subscription subscription = this.upstream.get();
+
+		if (subscription == null || this.done) {
+			return;
+		}
+
+		long limit = Math.min(this.parallelism, this.requested.get());
+		long pending = this.window.size() + this.received.size() + this.outstanding.get();
+
+		if (limit > pending)
+		{
+			this.outstanding.addAndGet(limit - pending);
+			subscription.request(limit - pending);
+		}
+	}
+
+	/**
+	 * Возвращает следующий проверенный элемент для передачи подписчику.
+	 *
+	 * @return элемент, или {@code null} если проверенных элементов нет.
+	 */
+	@Nullable
+	private Item<T> pollValidated()
+	{
+		if (this.ordered)
+		{
+			Item<T> item = this.window.peekFirst();
+
+			if (item == null || item.violations == null) {
+				return null;
+			}
+
+			return this.window.pollFirst();
+		}
+
+		Iterator<Item<T>> iterator = this.window.iterator();
+
+		while (iterator.hasNext())
+		{
+			Item<T> item = iterator.next();
+
+			if (item.violations != null)
+			{
+				iterator.remove();
+
+				return item;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет группу полученных элементов.
+	 * <p>
+	 * Существование значений полей элементов группы проверяется пакетно,
+	 * после чего каждый элемент проверяется отдельной задачей исполнителя.
+	 * Любая ошибка проверки завершает обработку вызовом {@link Flow.Subscriber#onError(Throwable)}.
+	 *
+	 * @param group элементы.
+	 */
+	private void validate(@NotNull final List<@NotNull Item<T>> group)
+	{
+		ExistenceBatch batch;
+
+		try
+		{
+			List<Object> values = new ArrayList<>(group.size());
+
+			for (Item<T> item : group)
+			{
+				values.add(item.value);
+			}
+
+			batch = this.validationEngine.resolveBatch(values);
+		}
+		catch (Throwable exception)
+		{
+			this.fail(exception);
+
+			return;
+		}
+
+		for (Item<T> item : group)
+		{
+			this.execute(() -> {
+				try
+				{
+					item.violations = batch.apply(() -> this.validationEngine.validate(item.value));
+				}
+				catch (Throwable exception)
+				{
+					this.fail(exception);
+
+					return;
+				}
+
+				this.drain();
+			});
+		}
+	}
+
+	/**
+	 * Передаёт задачу исполнителю проверок.
+	 *
+	 * @param task задача.
+	 */
+	private void execute(@NotNull final Runnable task)
+	{
+		try
+		{
+			this.executor.execute(task);
+		}
+		catch (Throwable exception)
+		{
+			this.fail(exception);
+		}
+	}
+
+	/**
+	 * Класс элемента потока.
+	 *
+	 * @param <T> тип элемента.
+	 */
+	private static final class Item<T>
+	{
+		/**
+		 * Элемент.
+		 */
+		@NotNull
+		private final T value;
+
+		/**
+		 * Нарушения, или {@code null} если элемент ещё не проверен.
+		 */
+		@Nullable
+		private volatile List<@NotNull Violating> violations;
+
+		/**
+		 * Конструктор для {@code Item}.
+		 *
+		 * @param value элемент.
+		 */
+		private Item(@NotNull final T value)
+		{
+			this.value = value;
+		}
+	}
+}
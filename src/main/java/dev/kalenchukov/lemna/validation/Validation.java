@@ -18,16 +18,13 @@
 
 package dev.kalenchukov.lemna.validation;
 
-import dev.kalenchukov.lemna.validation.repositories.ValidatorRepository;
-import dev.kalenchukov.lemna.validation.validators.*;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Класс проверки корректности значений полей класса.
@@ -36,6 +33,12 @@ import java.util.*;
  */
 public class Validation implements Validating
 {
+	/**
+	 * Общие механизмы проверки по локализациям.
+	 */
+	@NotNull
+	private static final ConcurrentMap<@NotNull Locale, @NotNull ValidationEngine> ENGINES = new ConcurrentHashMap<>();
+
 	/**
 	 * Локализация.
 	 */
@@ -43,10 +46,10 @@ public class Validation implements Validating
 	private Locale locale;
 
 	/**
-	 * Коллекция всех возможных проверяющих.
+	 * Механизм проверки.
 	 */
 	@NotNull
-	private final ValidatorRepository validatorRepository;
+	private ValidationEngine validationEngine;
 
 	/**
 	 * Объект класса в котором необходимо проверить данные.
@@ -59,18 +62,6 @@ public class Validation implements Validating
 	 */
 	private boolean pushy;
 
-	/**
-	 * Локализованные тексты логирования.
-	 */
-	@NotNull
-	private ResourceBundle localeLogs;
-
-	/**
-	 * Логгер для данного класса.
-	 */
-	@NotNull
-	private static final Logger LOG = LogManager.getLogger(Validation.class);
-
 	/**
 	 * Конструктор для {@code Validation}.
 	 *
@@ -83,12 +74,8 @@ public class Validation implements Validating
 
 		this.object = object;
 		this.locale = new Locale("ru", "RU");
-		this.localeLogs = ResourceBundle.getBundle(
-			"lemna/validation/localizations/logs",
-			this.locale
-		);
 		this.pushy = true;
-		this.validatorRepository = new ValidatorRepository(this.locale);
+		this.validationEngine = Validation.getEngine(this.locale);
 	}
 
 	/**
@@ -105,11 +92,7 @@ public class Validation implements Validating
 		if (!this.locale.equals(locale))
 		{
 			this.locale = locale;
-
-			this.localeLogs = ResourceBundle.getBundle(
-				"lemna/validation/localizations/logs",
-				this.locale
-			);
+			this.validationEngine = Validation.getEngine(this.locale);
 		}
 	}
 
@@ -157,91 +140,62 @@ public class Validation implements Validating
 	@Override
 	public List<@NotNull Violating> validate()
 	{
-		LOG.debug(String.format(
-			this.localeLogs.getString("00001"),
-			this.object.getClass().getName()
-		));
-
-		List<Violating> violations = new ArrayList<>();
-
-		for (Field field : this.object.getClass().getDeclaredFields())
-		{
-			violations.addAll(
-				this.validateValueField(field)
-			);
-
-			if (!this.pushy && violations.size() > 0) {
-				break;
-			}
-		}
+		return this.validationEngine.validate(this.object, this.pushy);
+	}
 
-		LOG.debug(String.format(
-			this.localeLogs.getString("00002"),
-			this.object.getClass().getName()
-		));
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param sink {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code sink} передан {@code null}.
+	 */
+	@Override
+	public boolean validate(@NotNull final ViolationSink sink)
+	{
+		Objects.requireNonNull(sink);
 
-		return Collections.unmodifiableList(violations);
+		return this.validationEngine.validate(this.object, this.pushy, sink);
 	}
 
 	/**
-	 * Проверяет поле класса на корректность.
+	 * {@inheritDoc}
 	 *
-	 * @param field поле класса.
-	 * @return коллекцию нарушений.
-	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @return {@inheritDoc}
 	 */
 	@NotNull
-	private List<@NotNull Violating> validateValueField(@NotNull final Field field)
+	@Override
+	public CompletableFuture<@NotNull List<@NotNull Violating>> validateAsync()
 	{
-		Objects.requireNonNull(field);
+		return this.validationEngine.validateAsync(this.object, this.pushy);
+	}
 
-		List<Violating> violations = new ArrayList<>();
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid()
+	{
+		return this.validationEngine.isValid(this.object);
+	}
 
-		for (Annotation constraintField : field.getDeclaredAnnotations())
-		{
-			Class<? extends Annotation> constraintType = constraintField.annotationType();
-
-			Validator constraintValidator = this.validatorRepository.getValidator(constraintType.getName());
-
-			if (constraintValidator == null) {
-				continue;
-			}
-
-			try
-			{
-				LOG.debug(String.format(
-					this.localeLogs.getString("00003"),
-					field.getName(),
-					constraintType.getSimpleName()
-				));
-
-				field.setAccessible(true);
-
-				Violating violation = constraintValidator.valid(field, field.get(this.object));
-
-				field.setAccessible(false);
-
-				if (violation == null)
-				{
-					LOG.debug(this.localeLogs.getString("00004"));
-				}
-				else
-				{
-					LOG.debug(this.localeLogs.getString("00006"));
-
-					violations.add(violation);
-
-					if (!this.pushy) {
-						break;
-					}
-				}
-			}
-			catch (IllegalAccessException exception)
-			{
-				exception.printStackTrace();
-			}
-		}
+	/**
+	 * Возвращает общий механизм проверки для локализации.
+	 * <p>
+	 * Механизм и построенные им планы проверки классов используются всеми объектами
+	 * {@code Validation} с данной локализацией.
+	 *
+	 * @param locale локализация.
+	 * @return механизм проверки.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 */
+	@NotNull
+	private static ValidationEngine getEngine(@NotNull final Locale locale)
+	{
+		Objects.requireNonNull(locale);
 
-		return violations;
+		return ENGINES.computeIfAbsent(locale, ValidationEngine::new);
 	}
 }
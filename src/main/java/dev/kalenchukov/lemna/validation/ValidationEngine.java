@@ -0,0 +1,1451 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.repositories.ValidatorRepository;
+import dev.kalenchukov.lemna.validation.validators.ExistenceBatch;
+import dev.kalenchukov.lemna.validation.validators.Validator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Класс механизма проверки корректности значений полей объектов.
+ * <p>
+ * В отличие от {@link Validation} не привязан к проверяемому объекту:
+ * создаётся один раз для локализации и может одновременно использоваться из разных потоков.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ValidationEngine
+{
+	/**
+	 * Локализация.
+	 */
+	@NotNull
+	private final Locale locale;
+
+	/**
+	 * Настырность проверки.
+	 */
+	private volatile boolean pushy;
+
+	/**
+	 * Использование скомпилированных проверок.
+	 */
+	private volatile boolean compiled;
+
+	/**
+	 * Трассировка проверки ограничений.
+	 */
+	private volatile boolean tracing;
+
+	/**
+	 * Порог параллельной проверки множества объектов.
+	 */
+	private volatile int parallelThreshold;
+
+	/**
+	 * Исполнитель блокирующих ограничений.
+	 */
+	@Nullable
+	private volatile Executor blockingExecutor;
+
+	/**
+	 * Количество одновременно выполняемых блокирующих ограничений.
+	 */
+	private volatile int blockingConcurrency;
+
+	/**
+	 * Кэш результатов проверки существования.
+	 */
+	@Nullable
+	private volatile ExistenceCache existenceCache;
+
+	/**
+	 * Коллекция всех возможных проверяющих.
+	 */
+	@NotNull
+	private final ValidatorRepository validatorRepository;
+
+	/**
+	 * Реестр экземпляров классов с собственной реализацией проверки.
+	 */
+	@NotNull
+	private final InstanceRegistry instanceRegistry;
+
+	/**
+	 * Кэш планов проверки по классам.
+	 */
+	@NotNull
+	private final ClassValue<@NotNull ValidationPlan> plans = new ClassValue<>()
+	{
+		@NotNull
+		@Override
+		protected ValidationPlan computeValue(@NotNull final Class<?> type)
+		{
+			return new ValidationPlan(
+				type,
+				ValidationEngine.this.validatorRepository,
+				ValidationEngine.this.instanceRegistry,
+				ValidationEngine.this::getExistenceCache
+			);
+		}
+	};
+
+	/**
+	 * Каталог локализованных текстов.
+	 */
+	@NotNull
+	private final MessageCatalog messageCatalog;
+
+	/**
+	 * Логгер для данного класса.
+	 */
+	@NotNull
+	private static final Logger LOG = LogManager.getLogger(ValidationEngine.class);
+
+	/**
+	 * Конструктор для {@code ValidationEngine}.
+	 */
+	public ValidationEngine()
+	{
+		this(new Locale("ru", "RU"));
+	}
+
+	/**
+	 * Конструктор для {@code ValidationEngine}.
+	 *
+	 * @param locale локализация.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 */
+	public ValidationEngine(@NotNull final Locale locale)
+	{
+		this(locale, new InstanceRegistry());
+	}
+
+	/**
+	 * Конструктор для {@code ValidationEngine}.
+	 *
+	 * @param locale локализация.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 */
+	public ValidationEngine(@NotNull final Locale locale, @NotNull final InstanceRegistry instanceRegistry)
+	{
+		Objects.requireNonNull(locale);
+		Objects.requireNonNull(instanceRegistry);
+
+		this.locale = locale;
+		this.messageCatalog = MessageCatalog.getInstance(this.locale);
+		this.pushy = true;
+		this.compiled = false;
+		this.tracing = true;
+		this.parallelThreshold = 1000;
+		this.blockingExecutor = null;
+		this.blockingConcurrency = 16;
+		this.existenceCache = null;
+		this.validatorRepository = ValidatorRepository.getInstance(this.locale);
+		this.instanceRegistry = instanceRegistry;
+	}
+
+	/**
+	 * Возвращает локализацию.
+	 *
+	 * @return локализация.
+	 */
+	@NotNull
+	public Locale getLocale()
+	{
+		return this.locale;
+	}
+
+	/**
+	 * Возвращает реестр экземпляров классов с собственной реализацией проверки.
+	 * <p>
+	 * Экземпляры, зарегистрированные в реестре, используются ограничениями
+	 * {@link dev.kalenchukov.lemna.validation.constraints.Exist} и
+	 * {@link dev.kalenchukov.lemna.validation.constraints.Valid} данного механизма.
+	 *
+	 * @return реестр экземпляров.
+	 */
+	@NotNull
+	public InstanceRegistry getInstanceRegistry()
+	{
+		return this.instanceRegistry;
+	}
+
+	/**
+	 * Возвращает кэш результатов проверки существования.
+	 *
+	 * @return кэш результатов, или {@code null} если кэширование не используется.
+	 */
+	@Nullable
+	public ExistenceCache getExistenceCache()
+	{
+		return this.existenceCache;
+	}
+
+	/**
+	 * Устанавливает кэш результатов проверки существования.
+	 * <p>
+	 * Кэш используется ограничениями {@link dev.kalenchukov.lemna.validation.constraints.Exist},
+	 * для которых не отключено кэширование.
+	 *
+	 * @param existenceCache кэш результатов, или {@code null} для отключения кэширования.
+	 */
+	public void setExistenceCache(@Nullable final ExistenceCache existenceCache)
+	{
+		this.existenceCache = existenceCache;
+	}
+
+	/**
+	 * Определяет настырность проверки.
+	 *
+	 * @return {@code true}, если проверка настырная, иначе {@code false}.
+	 */
+	public boolean isPushy()
+	{
+		return this.pushy;
+	}
+
+	/**
+	 * Устанавливает настырность проверки.
+	 *
+	 * @param pushy настырность.
+	 */
+	public void setPushy(final boolean pushy)
+	{
+		this.pushy = pushy;
+	}
+
+	/**
+	 * Определяет использование скомпилированных проверок.
+	 *
+	 * @return {@code true}, если используются скомпилированные проверки, иначе {@code false}.
+	 */
+	public boolean isCompiled()
+	{
+		return this.compiled;
+	}
+
+	/**
+	 * Устанавливает использование скомпилированных проверок.
+	 * <p>
+	 * Скомпилированные проверки строятся проверяющими один раз для поля класса
+	 * и пропускают заведомо корректные значения без обращения к проверяющему.
+	 * Нарушения по-прежнему формируются проверяющими, поэтому результат проверки не меняется.
+	 *
+	 * @param compiled использование скомпилированных проверок.
+	 */
+	public void setCompiled(final boolean compiled)
+	{
+		this.compiled = compiled;
+	}
+
+	/**
+	 * Определяет трассировку проверки ограничений.
+	 *
+	 * @return {@code true}, если проверка каждого ограничения записывается в журнал, иначе {@code false}.
+	 */
+	public boolean isTracing()
+	{
+		return this.tracing;
+	}
+
+	/**
+	 * Устанавливает трассировку проверки ограничений.
+	 * <p>
+	 * Трассировка записывает в журнал на уровне {@code DEBUG} проверку каждого ограничения.
+	 * Уровень журнала и значение трассировки определяются один раз на проверку объекта,
+	 * поэтому при отключённой трассировке проверка ограничений не обращается к логгеру.
+	 * Начало и окончание проверки объекта записываются в журнал независимо от трассировки.
+	 *
+	 * @param tracing трассировка.
+	 */
+	public void setTracing(final boolean tracing)
+	{
+		this.tracing = tracing;
+	}
+
+	/**
+	 * Возвращает порог параллельной проверки множества объектов.
+	 *
+	 * @return порог параллельной проверки.
+	 */
+	public int getParallelThreshold()
+	{
+		return this.parallelThreshold;
+	}
+
+	/**
+	 * Устанавливает порог параллельной проверки множества объектов.
+	 * <p>
+	 * Множество объектов, размер которого не превышает порог, проверяется в вызывающем потоке.
+	 * Большее множество делится пополам до частей не больше порога,
+	 * которые проверяются в общем пуле {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param parallelThreshold порог параллельной проверки.
+	 * @throws IllegalArgumentException если {@code parallelThreshold} меньше 1.
+	 */
+	public void setParallelThreshold(final int parallelThreshold)
+	{
+		if (parallelThreshold < 1) {
+			throw new IllegalArgumentException(String.valueOf(parallelThreshold));
+		}
+
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Возвращает исполнителя блокирующих ограничений.
+	 *
+	 * @return исполнитель, или {@code null} если блокирующие ограничения проверяются в вызывающем потоке.
+	 */
+	@Nullable
+	public Executor getBlockingExecutor()
+	{
+		return this.blockingExecutor;
+	}
+
+	/**
+	 * Устанавливает исполнителя блокирующих ограничений.
+	 * <p>
+	 * Ограничения {@link dev.kalenchukov.lemna.validation.constraints.Exist} и
+	 * {@link dev.kalenchukov.lemna.validation.constraints.Valid} полей объекта при настырной проверке
+	 * выполняются исполнителем независимо друг от друга, не более {@link #getBlockingConcurrency()} одновременно.
+	 * Остальные ограничения проверяются в вызывающем потоке,
+	 * а нарушения возвращаются в порядке объявления ограничений.
+	 *
+	 * @param blockingExecutor исполнитель, или {@code null} для проверки в вызывающем потоке.
+	 */
+	public void setBlockingExecutor(@Nullable final Executor blockingExecutor)
+	{
+		this.blockingExecutor = blockingExecutor;
+	}
+
+	/**
+	 * Возвращает количество одновременно выполняемых блокирующих ограничений объекта.
+	 *
+	 * @return количество ограничений.
+	 */
+	public int getBlockingConcurrency()
+	{
+		return this.blockingConcurrency;
+	}
+
+	/**
+	 * Устанавливает количество одновременно выполняемых блокирующих ограничений объекта.
+	 *
+	 * @param blockingConcurrency количество ограничений.
+	 * @throws IllegalArgumentException если {@code blockingConcurrency} меньше 1.
+	 */
+	public void setBlockingConcurrency(final int blockingConcurrency)
+	{
+		if (blockingConcurrency < 1) {
+			throw new IllegalArgumentException(String.valueOf(blockingConcurrency));
+		}
+
+		this.blockingConcurrency = blockingConcurrency;
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @return коллекцию нарушений.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull Violating> validate(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		return this.validate(object, this.pushy);
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность и передаёт нарушения получателю.
+	 * <p>
+	 * Коллекция нарушений не строится. Проверка останавливается, если получатель вернул {@code false},
+	 * а при ненастырной проверке - после первого нарушения.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param sink получатель нарушений.
+	 * @return {@code true}, если проверены все поля объекта, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code sink} передан {@code null}.
+	 */
+	public boolean validate(@NotNull final Object object, @NotNull final ViolationSink sink)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(sink);
+
+		return this.validate(object, this.pushy, sink);
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность асинхронно.
+	 * <p>
+	 * Ограничения проверяются в вызывающем потоке, кроме ограничений
+	 * {@link dev.kalenchukov.lemna.validation.constraints.Exist}, класс проверки которых реализует
+	 * {@link dev.kalenchukov.lemna.validation.interfaces.AsyncExistable}. Их проверка не блокирует вызывающий поток.
+	 * Результат завершается теми же нарушениями, что и {@link #validate(Object)}.
+	 * Если проверка не настырная, ограничения проверяются последовательно
+	 * и после первого нарушения асинхронные проверки не запускаются.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @return результат, завершающийся коллекцией нарушений.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@NotNull
+	public CompletableFuture<@NotNull List<@NotNull Violating>> validateAsync(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		return this.validateAsync(object, this.pushy);
+	}
+
+	/**
+	 * Проверяет поля множества объектов на корректность.
+	 * <p>
+	 * Существование значений полей с ограничением {@link dev.kalenchukov.lemna.validation.constraints.Exist},
+	 * класс проверки которых реализует {@link dev.kalenchukov.lemna.validation.interfaces.BatchExistable},
+	 * проверяется одним вызовом для всех различных значений каждого класса проверки.
+	 * Множество, размер которого превышает {@link #getParallelThreshold()}, проверяется параллельно.
+	 *
+	 * @param objects объекты классов в которых необходимо проверить данные.
+	 * @return коллекции нарушений в порядке следования объектов.
+	 * @throws NullPointerException если в качестве {@code objects} передан {@code null}.
+	 * @throws NullPointerException если в {@code objects} есть {@code null}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull List<@NotNull Violating>> validateAll(@NotNull final Collection<@NotNull ?> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAll(objects.toArray());
+	}
+
+	/**
+	 * Проверяет поля множества объектов на корректность.
+	 * <p>
+	 * Существование значений полей с ограничением {@link dev.kalenchukov.lemna.validation.constraints.Exist},
+	 * класс проверки которых реализует {@link dev.kalenchukov.lemna.validation.interfaces.BatchExistable},
+	 * проверяется одним вызовом для всех различных значений каждого класса проверки.
+	 * Множество, размер которого превышает {@link #getParallelThreshold()}, проверяется параллельно.
+	 *
+	 * @param objects объекты классов в которых необходимо проверить данные.
+	 * @return коллекции нарушений в порядке следования объектов.
+	 * @throws NullPointerException если в качестве {@code objects} передан {@code null}.
+	 * @throws NullPointerException если в {@code objects} есть {@code null}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull List<@NotNull Violating>> validateAll(@NotNull final Object[] objects)
+	{
+		Objects.requireNonNull(objects);
+
+		boolean pushy = this.pushy;
+		int parallelThreshold = this.parallelThreshold;
+		ExistenceBatch batch = this.resolveBatch(Arrays.asList(objects));
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		List<Violating>[] violations = new List[objects.length];
+		ValidationTask task = new ValidationTask(
+			this, batch, objects, violations, 0, objects.length, pushy, parallelThreshold
+		);
+
+		if (objects.length > parallelThreshold) {
+			ForkJoinPool.commonPool().invoke(task);
+		} else {
+			task.compute();
+		}
+
+		return Collections.unmodifiableList(Arrays.asList(violations));
+	}
+
+	/**
+	 * Определяет корректность полей объекта.
+	 * <p>
+	 * Проверка останавливается на первом нарушенном ограничении.
+	 * Нарушения и сообщения о них не формируются, настырность проверки не учитывается.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @return {@code true}, если значения всех полей корректны, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	public boolean isValid(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		boolean compiled = this.compiled;
+
+		for (ValidationPlan.FieldPlan fieldPlan : this.getPlan(object.getClass()).getFields())
+		{
+			if (!ValidationEngine.isValidField(fieldPlan, object, compiled)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность и возвращает его вместе с нарушениями.
+	 * <p>
+	 * Корректность объекта сначала определяется методом {@link #isValid(Object)},
+	 * и нарушения формируются только для некорректных объектов. Объекты классов
+	 * с ограничениями {@link dev.kalenchukov.lemna.validation.constraints.Exist} или
+	 * {@link dev.kalenchukov.lemna.validation.constraints.Valid} проверяются один раз методом {@link #validate(Object)}.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param <T> тип объекта.
+	 * @return проверенный объект.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@NotNull
+	public <T> Validated<T> validated(@NotNull final T object)
+	{
+		Objects.requireNonNull(object);
+
+		if (!this.getPlan(object.getClass()).isBlocking() && this.isValid(object)) {
+			return new Validated<>(object, Collections.emptyList());
+		}
+
+		return new Validated<>(object, this.validate(object));
+	}
+
+	/**
+	 * Возвращает поток проверенных объектов.
+	 * <p>
+	 * Объекты проверяются по мере чтения из возвращаемого потока,
+	 * поэтому исходный поток может быть бесконечным.
+	 *
+	 * @param objects поток объектов.
+	 * @param <T> тип объектов.
+	 * @return поток проверенных объектов.
+	 * @throws NullPointerException если в качестве {@code objects} передан {@code null}.
+	 * @see #validated(Object)
+	 */
+	@NotNull
+	public <T> Stream<@NotNull Validated<T>> validated(@NotNull final Stream<@NotNull T> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		return objects.map(this::validated);
+	}
+
+	/**
+	 * Возвращает условие корректности полей объекта.
+	 *
+	 * @param <T> тип объектов.
+	 * @return условие, проверяющее объекты методом {@link #isValid(Object)}.
+	 */
+	@NotNull
+	public <T> Predicate<@NotNull T> asPredicate()
+	{
+		return this::isValid;
+	}
+
+	/**
+	 * Возвращает сборщик, разделяющий объекты на корректные и некорректные.
+	 *
+	 * @param <T> тип объектов.
+	 * @return сборщик, возвращающий корректные объекты по ключу {@code true},
+	 * а некорректные вместе с нарушениями - по ключу {@code false}.
+	 * @see #validated(Object)
+	 */
+	@NotNull
+	public <T> Collector<@NotNull T, ?, @NotNull Map<@NotNull Boolean, @NotNull List<@NotNull Validated<T>>>> partitioningBy()
+	{
+		return Collectors.mapping(this::validated, Collectors.partitioningBy(Validated::isValid));
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param pushy настырность проверки.
+	 * @return коллекцию нарушений.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	List<@NotNull Violating> validate(@NotNull final Object object, final boolean pushy)
+	{
+		Objects.requireNonNull(object);
+
+		boolean debug = LOG.isDebugEnabled();
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00001"),
+				object.getClass().getName()
+			));
+		}
+
+		List<Violating> violations = null;
+		boolean compiled = this.compiled;
+		boolean trace = debug && this.tracing;
+		ValidationPlan plan = this.getPlan(object.getClass());
+		Executor blockingExecutor = this.blockingExecutor;
+
+		if (pushy && blockingExecutor != null && plan.isBlocking())
+		{
+			violations = this.validateBlocking(plan, object, compiled, trace, blockingExecutor);
+		}
+		else
+		{
+			for (ValidationPlan.FieldPlan fieldPlan : plan.getFields())
+			{
+				violations = this.validateValueField(fieldPlan, object, pushy, compiled, trace, violations);
+
+				if (!pushy && violations != null) {
+					break;
+				}
+			}
+		}
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00002"),
+				object.getClass().getName()
+			));
+		}
+
+		if (violations == null) {
+			return Collections.emptyList();
+		}
+
+		return Collections.unmodifiableList(violations);
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность и передаёт нарушения получателю.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param pushy настырность проверки.
+	 * @param sink получатель нарушений.
+	 * @return {@code true}, если проверены все поля объекта, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code sink} передан {@code null}.
+	 */
+	boolean validate(@NotNull final Object object, final boolean pushy, @NotNull final ViolationSink sink)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(sink);
+
+		boolean debug = LOG.isDebugEnabled();
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00001"),
+				object.getClass().getName()
+			));
+		}
+
+		boolean compiled = this.compiled;
+		boolean trace = debug && this.tracing;
+		boolean completed = this.validateFields(object, pushy, compiled, trace, sink);
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00002"),
+				object.getClass().getName()
+			));
+		}
+
+		return completed;
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность асинхронно.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param pushy настырность проверки.
+	 * @return результат, завершающийся коллекцией нарушений.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@NotNull
+	CompletableFuture<@NotNull List<@NotNull Violating>> validateAsync(@NotNull final Object object,
+																						final boolean pushy)
+	{
+		Objects.requireNonNull(object);
+
+		boolean debug = LOG.isDebugEnabled();
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00001"),
+				object.getClass().getName()
+			));
+		}
+
+		boolean compiled = this.compiled;
+		boolean trace = debug && this.tracing;
+		CompletableFuture<List<Violating>> violations;
+
+		try
+		{
+			ValidationPlan.FieldPlan[] fields = this.getPlan(object.getClass()).getFields();
+
+			if (pushy) {
+				violations = this.validateFieldsAsync(fields, object, compiled, trace);
+			} else {
+				violations = this.validateFirstAsync(fields, object, 0, 0, compiled, trace).thenApply(violation -> {
+					if (violation == null) {
+						return Collections.emptyList();
+					}
+
+					return Collections.singletonList(violation);
+				});
+			}
+		}
+		catch (RuntimeException exception)
+		{
+			return CompletableFuture.failedFuture(exception);
+		}
+
+		return violations.thenApply(completed -> {
+			if (debug)
+			{
+				LOG.debug(String.format(
+					this.messageCatalog.getLog("00002"),
+					object.getClass().getName()
+				));
+			}
+
+			return completed;
+		});
+	}
+
+	/**
+	 * Проверяет все поля объекта на корректность асинхронно.
+	 * <p>
+	 * Блокирующие ограничения проверяются методом {@link Validator#validAsync(Field, Object)} одновременно,
+	 * остальные - в вызывающем потоке.
+	 *
+	 * @param fields планы проверки полей класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @return результат, завершающийся коллекцией нарушений в порядке объявления полей и ограничений.
+	 */
+	@NotNull
+	private CompletableFuture<@NotNull List<@NotNull Violating>> validateFieldsAsync(@NotNull final ValidationPlan.FieldPlan[] fields,
+																				   @NotNull final Object object,
+																				   final boolean compiled,
+																				   final boolean trace)
+	{
+		List<CompletableFuture<Violating>> results = new ArrayList<>();
+
+		for (ValidationPlan.FieldPlan fieldPlan : fields)
+		{
+			Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+			if (fieldCheck != null && fieldCheck.test(object)) {
+				continue;
+			}
+
+			Object value = fieldPlan.isPrimitive() ? null : fieldPlan.getValue(object);
+
+			for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				if (constraintPlan.isBlocking())
+				{
+					results.add(constraintPlan.getValidator().validAsync(
+						fieldPlan.getField(),
+						fieldPlan.isPrimitive() ? fieldPlan.getValue(object) : value
+					).toCompletableFuture());
+
+					continue;
+				}
+
+				Violating violation = this.validConstraint(fieldPlan, constraintPlan, object, value, compiled, trace);
+
+				if (violation != null) {
+					results.add(CompletableFuture.completedFuture(violation));
+				}
+			}
+		}
+
+		return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).thenApply(completed -> {
+			List<Violating> violations = null;
+
+			for (CompletableFuture<Violating> result : results)
+			{
+				Violating violation = result.join();
+
+				if (violation == null) {
+					continue;
+				}
+
+				if (violations == null) {
+					violations = new ArrayList<>();
+				}
+
+				violations.add(violation);
+			}
+
+			if (violations == null) {
+				return Collections.emptyList();
+			}
+
+			return Collections.unmodifiableList(violations);
+		});
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность асинхронно до первого нарушения.
+	 * <p>
+	 * Ограничения проверяются последовательно, начиная с указанного ограничения указанного поля.
+	 * Следующее блокирующее ограничение проверяется методом {@link Validator#validAsync(Field, Object)}
+	 * только после завершения проверки предыдущего, поэтому после первого нарушения проверки не выполняются.
+	 *
+	 * @param fields планы проверки полей класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param fieldIndex индекс поля, с которого продолжается проверка.
+	 * @param constraintIndex индекс ограничения поля, с которого продолжается проверка.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @return результат, завершающийся первым нарушением, или {@code null} если нарушений нет.
+	 */
+	@NotNull
+	private CompletableFuture<@Nullable Violating> validateFirstAsync(@NotNull final ValidationPlan.FieldPlan[] fields,
+																	  @NotNull final Object object,
+																	  final int fieldIndex,
+																	  final int constraintIndex,
+																	  final boolean compiled,
+																	  final boolean trace)
+	{
+		for (int field = fieldIndex; field < fields.length; field++)
+		{
+			ValidationPlan.FieldPlan fieldPlan = fields[field];
+			int first = field == fieldIndex ? constraintIndex : 0;
+
+			if (first == 0)
+			{
+				Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+				if (fieldCheck != null && fieldCheck.test(object)) {
+					continue;
+				}
+			}
+
+			Object value = fieldPlan.isPrimitive() ? null : fieldPlan.getValue(object);
+			ValidationPlan.ConstraintPlan[] constraints = fieldPlan.getConstraints();
+
+			for (int constraint = first; constraint < constraints.length; constraint++)
+			{
+				ValidationPlan.ConstraintPlan constraintPlan = constraints[constraint];
+
+				if (constraintPlan.isBlocking())
+				{
+					int nextField = field;
+					int nextConstraint = constraint + 1;
+
+					return constraintPlan.getValidator().validAsync(
+						fieldPlan.getField(),
+						fieldPlan.isPrimitive() ? fieldPlan.getValue(object) : value
+					).toCompletableFuture().thenCompose(violation -> {
+						if (violation != null) {
+							return CompletableFuture.completedFuture(violation);
+						}
+
+						return this.validateFirstAsync(fields, object, nextField, nextConstraint, compiled, trace);
+					});
+				}
+
+				Violating violation = this.validConstraint(fieldPlan, constraintPlan, object, value, compiled, trace);
+
+				if (violation != null) {
+					return CompletableFuture.completedFuture(violation);
+				}
+			}
+		}
+
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Проверяет поля объекта и передаёт нарушения получателю.
+	 *
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param pushy настырность проверки.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @param sink получатель нарушений.
+	 * @return {@code true}, если проверены все поля объекта, иначе {@code false}.
+	 */
+	private boolean validateFields(@NotNull final Object object,
+								   final boolean pushy,
+								   final boolean compiled,
+								   final boolean trace,
+								   @NotNull final ViolationSink sink)
+	{
+		for (ValidationPlan.FieldPlan fieldPlan : this.getPlan(object.getClass()).getFields())
+		{
+			Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+			if (fieldCheck != null && fieldCheck.test(object)) {
+				continue;
+			}
+
+			Object value = fieldPlan.isPrimitive() ? null : fieldPlan.getValue(object);
+
+			for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				Violating violation = this.validConstraint(fieldPlan, constraintPlan, object, value, compiled, trace);
+
+				if (violation == null) {
+					continue;
+				}
+
+				if (!sink.accept(fieldPlan.getField(), constraintPlan.getType(), violation) || !pushy) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Выполняет пакетную проверку существования значений полей множества объектов.
+	 *
+	 * @param objects объекты классов в которых необходимо проверить данные.
+	 * @return результаты пакетной проверки.
+	 * @throws NullPointerException если в качестве {@code objects} передан {@code null}.
+	 * @throws NullPointerException если в {@code objects} есть {@code null}.
+	 */
+	@NotNull
+	ExistenceBatch resolveBatch(@NotNull final Iterable<@NotNull ?> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		ExistenceBatch batch = new ExistenceBatch(this.locale, this.instanceRegistry, this.existenceCache);
+
+		for (Object object : objects)
+		{
+			Objects.requireNonNull(object);
+
+			for (ValidationPlan.FieldPlan fieldPlan : this.getPlan(object.getClass()).getFields())
+			{
+				if (fieldPlan.isBatchExistence()) {
+					batch.add(fieldPlan.getField(), fieldPlan.getValue(object));
+				}
+			}
+		}
+
+		batch.resolve();
+
+		return batch;
+	}
+
+	/**
+	 * Возвращает план проверки класса.
+	 *
+	 * @param type класс.
+	 * @return план проверки.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	@NotNull
+	ValidationPlan getPlan(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
+
+		return this.plans.get(type);
+	}
+
+	/**
+	 * Проверяет поле объекта на корректность.
+	 * <p>
+	 * Коллекция нарушений создаётся только при первом нарушении,
+	 * поэтому проверка корректного поля не выделяет память.
+	 *
+	 * @param fieldPlan план проверки поля класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param pushy настырность проверки.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @param violations коллекция нарушений, или {@code null} если нарушений ещё нет.
+	 * @return коллекцию нарушений, или {@code null} если нарушений нет.
+	 * @throws NullPointerException если в качестве {@code fieldPlan} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code object} передан {@code null}.
+	 */
+	@Nullable
+	private List<@NotNull Violating> validateValueField(@NotNull final ValidationPlan.FieldPlan fieldPlan,
+														@NotNull final Object object,
+														final boolean pushy,
+														final boolean compiled,
+														final boolean trace,
+														@Nullable List<@NotNull Violating> violations)
+	{
+		Objects.requireNonNull(fieldPlan);
+		Objects.requireNonNull(object);
+
+		Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+		if (fieldCheck != null && fieldCheck.test(object)) {
+			return violations;
+		}
+
+		Object value = fieldPlan.isPrimitive() ? null : fieldPlan.getValue(object);
+
+		for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+		{
+			Violating violation = this.validConstraint(fieldPlan, constraintPlan, object, value, compiled, trace);
+
+			if (violation == null) {
+				continue;
+			}
+
+			if (violations == null) {
+				violations = new ArrayList<>();
+			}
+
+			violations.add(violation);
+
+			if (!pushy) {
+				break;
+			}
+		}
+
+		return violations;
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность с выполнением блокирующих ограничений исполнителем.
+	 * <p>
+	 * Результаты пакетной проверки существования вызывающего потока устанавливаются
+	 * в потоке исполнителя на время проверки ограничения.
+	 *
+	 * @param plan план проверки класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @param blockingExecutor исполнитель блокирующих ограничений.
+	 * @return коллекцию нарушений, или {@code null} если нарушений нет.
+	 */
+	@Nullable
+	private List<@NotNull Violating> validateBlocking(@NotNull final ValidationPlan plan,
+													  @NotNull final Object object,
+													  final boolean compiled,
+													  final boolean trace,
+													  @NotNull final Executor blockingExecutor)
+	{
+		int blockingConcurrency = this.blockingConcurrency;
+		ExistenceBatch batch = ExistenceBatch.current();
+		List<CompletableFuture<Violating>> results = new ArrayList<>();
+		Deque<CompletableFuture<Violating>> running = new ArrayDeque<>();
+
+		for (ValidationPlan.FieldPlan fieldPlan : plan.getFields())
+		{
+			Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+			if (fieldCheck != null && fieldCheck.test(object)) {
+				continue;
+			}
+
+			Object value = fieldPlan.isPrimitive() ? null : fieldPlan.getValue(object);
+
+			for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				if (!constraintPlan.isBlocking())
+				{
+					Violating violation = this.validConstraint(fieldPlan, constraintPlan, object, value, compiled, trace);
+
+					if (violation != null) {
+						results.add(CompletableFuture.completedFuture(violation));
+					}
+
+					continue;
+				}
+
+				running.removeIf(CompletableFuture::isDone);
+
+				if (running.size() >= blockingConcurrency) {
+					ValidationEngine.join(running.removeFirst());
+				}
+
+				Supplier<Violating> check = () -> this.validConstraint(
+					fieldPlan, constraintPlan, object, value, compiled, trace
+				);
+
+				CompletableFuture<Violating> future = CompletableFuture.supplyAsync(
+					batch == null ? check : () -> batch.apply(check),
+					blockingExecutor
+				);
+
+				running.addLast(future);
+				results.add(future);
+			}
+		}
+
+		List<Violating> violations = null;
+
+		for (CompletableFuture<Violating> future : results)
+		{
+			Violating violation = ValidationEngine.join(future);
+
+			if (violation == null) {
+				continue;
+			}
+
+			if (violations == null) {
+				violations = new ArrayList<>();
+			}
+
+			violations.add(violation);
+		}
+
+		return violations;
+	}
+
+	/**
+	 * Ожидает результат проверки ограничения.
+	 *
+	 * @param future результат проверки ограничения.
+	 * @return нарушение, или {@code null} если значение поля корректно.
+	 * @throws RuntimeException если проверка ограничения завершилась исключением.
+	 */
+	@Nullable
+	private static Violating join(@NotNull final CompletableFuture<Violating> future)
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException exception)
+		{
+			Throwable cause = exception.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Проверяет значение поля объекта на соответствие ограничению.
+	 *
+	 * @param fieldPlan план проверки поля класса.
+	 * @param constraintPlan план проверки ограничения.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param value значение поля, или {@code null} для примитивного поля.
+	 * @param compiled использование скомпилированных проверок.
+	 * @param trace запись проверки каждого ограничения в журнал.
+	 * @return нарушение, или {@code null} если значение поля корректно.
+	 */
+	@Nullable
+	private Violating validConstraint(@NotNull final ValidationPlan.FieldPlan fieldPlan,
+									  @NotNull final ValidationPlan.ConstraintPlan constraintPlan,
+									  @NotNull final Object object,
+									  @Nullable final Object value,
+									  final boolean compiled,
+									  final boolean trace)
+	{
+		Field field = fieldPlan.getField();
+		boolean primitive = fieldPlan.isPrimitive();
+
+		if (trace)
+		{
+			LOG.debug(String.format(
+				this.messageCatalog.getLog("00003"),
+				field.getName(),
+				constraintPlan.getType().getSimpleName()
+			));
+		}
+
+		Predicate<Object> check = constraintPlan.getCheck();
+
+		if (compiled && !primitive && check != null && check.test(value))
+		{
+			if (trace) {
+				LOG.debug(this.messageCatalog.getLog("00004"));
+			}
+
+			return null;
+		}
+
+		Violating violation = primitive
+			? ValidationEngine.validPrimitive(constraintPlan.getValidator(), fieldPlan, object)
+			: constraintPlan.getValidator().valid(field, value);
+
+		if (trace) {
+			LOG.debug(this.messageCatalog.getLog(violation == null ? "00004" : "00006"));
+		}
+
+		return violation;
+	}
+
+	/**
+	 * Проверяет значение примитивного поля объекта без упаковки.
+	 *
+	 * @param validator проверяющий.
+	 * @param fieldPlan план проверки поля класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @return нарушение, или {@code null} если значение поля корректно.
+	 */
+	@Nullable
+	private static Violating validPrimitive(@NotNull final Validator validator,
+											@NotNull final ValidationPlan.FieldPlan fieldPlan,
+											@NotNull final Object object)
+	{
+		Field field = fieldPlan.getField();
+		Class<?> type = field.getType();
+
+		if (type == int.class) {
+			return validator.validInt(field, fieldPlan.getInt(object));
+		}
+
+		if (type == long.class) {
+			return validator.validLong(field, fieldPlan.getLong(object));
+		}
+
+		return validator.validDouble(field, fieldPlan.getDouble(object));
+	}
+
+	/**
+	 * Определяет корректность значения поля объекта.
+	 *
+	 * @param fieldPlan план проверки поля класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @param compiled использование скомпилированных проверок.
+	 * @return {@code true}, если значение поля корректно для всех ограничений, иначе {@code false}.
+	 */
+	private static boolean isValidField(@NotNull final ValidationPlan.FieldPlan fieldPlan,
+										@NotNull final Object object,
+										final boolean compiled)
+	{
+		Predicate<Object> fieldCheck = fieldPlan.getCheck();
+
+		if (fieldCheck != null && fieldCheck.test(object)) {
+			return true;
+		}
+
+		Field field = fieldPlan.getField();
+		boolean primitive = fieldPlan.isPrimitive();
+		Object value = primitive ? null : fieldPlan.getValue(object);
+
+		for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+		{
+			Predicate<Object> check = constraintPlan.getCheck();
+
+			if (compiled && !primitive && check != null && check.test(value)) {
+				continue;
+			}
+
+			boolean valid = primitive
+				? ValidationEngine.isValidPrimitive(constraintPlan.getValidator(), fieldPlan, object)
+				: constraintPlan.getValidator().isValid(field, value);
+
+			if (!valid) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Определяет корректность значения примитивного поля объекта без упаковки.
+	 *
+	 * @param validator проверяющий.
+	 * @param fieldPlan план проверки поля класса.
+	 * @param object объект класса в котором необходимо проверить данные.
+	 * @return {@code true}, если значение поля корректно, иначе {@code false}.
+	 */
+	private static boolean isValidPrimitive(@NotNull final Validator validator,
+											@NotNull final ValidationPlan.FieldPlan fieldPlan,
+											@NotNull final Object object)
+	{
+		Field field = fieldPlan.getField();
+		Class<?> type = field.getType();
+
+		if (type == int.class) {
+			return validator.isValidInt(field, fieldPlan.getInt(object));
+		}
+
+		if (type == long.class) {
+			return validator.isValidLong(field, fieldPlan.getLong(object));
+		}
+
+		return validator.isValidDouble(field, fieldPlan.getDouble(object));
+	}
+
+	/**
+	 * Задача проверки части множества объектов.
+	 * <p>
+	 * Результаты пакетной проверки существования устанавливаются в каждом потоке,
+	 * выполняющем задачу, а нарушения записываются по индексам объектов.
+	 */
+	private static final class ValidationTask extends RecursiveAction
+	{
+		/**
+		 * Версия сериализации.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Механизм проверки.
+		 */
+		@NotNull
+		private final ValidationEngine engine;
+
+		/**
+		 * Пакетная проверка существования.
+		 */
+		@NotNull
+		private final ExistenceBatch batch;
+
+		/**
+		 * Объекты классов в которых необходимо проверить данные.
+		 */
+		@NotNull
+		private final Object[] objects;
+
+		/**
+		 * Коллекции нарушений по индексам объектов.
+		 */
+		@NotNull
+		private final List<@NotNull Violating>[] violations;
+
+		/**
+		 * Индекс первого объекта части.
+		 */
+		private final int from;
+
+		/**
+		 * Индекс следующего за последним объекта части.
+		 */
+		private final int to;
+
+		/**
+		 * Настырность проверки.
+		 */
+		private final boolean pushy;
+
+		/**
+		 * Порог параллельной проверки.
+		 */
+		private final int parallelThreshold;
+
+		/**
+		 * Конструктор для {@code ValidationTask}.
+		 *
+		 * @param engine механизм проверки.
+		 * @param batch пакетная проверка существования.
+		 * @param objects объекты классов в которых необходимо проверить данные.
+		 * @param violations коллекции нарушений по индексам объектов.
+		 * @param from индекс первого объекта части.
+		 * @param to индекс следующего за последним объекта части.
+		 * @param pushy настырность проверки.
+		 * @param parallelThreshold порог параллельной проверки.
+		 */
+		private ValidationTask(@NotNull final ValidationEngine engine,
+							   @NotNull final ExistenceBatch batch,
+							   @NotNull final Object[] objects,
+							   @NotNull final List<@NotNull Violating>[] violations,
+							   final int from,
+							   final int to,
+							   final boolean pushy,
+							   final int parallelThreshold)
+		{
+			this.engine = engine;
+			this.batch = batch;
+			this.objects = objects;
+			this.violations = violations;
+			this.from = from;
+			this.to = to;
+			this.pushy = pushy;
+			this.parallelThreshold = parallelThreshold;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute()
+		{
+			if (this.to - this.from > this.parallelThreshold)
+			{
+				int middle = (this.from + this.to) >>> 1;
+
+				ForkJoinTask.invokeAll(
+					this.part(this.from, middle),
+					this.part(middle, this.to)
+				);
+
+				return;
+			}
+
+			this.batch.apply(() -> {
+				for (int index = this.from; index < this.to; index++)
+				{
+					this.violations[index] = this.engine.validate(this.objects[index], this.pushy);
+				}
+
+				return null;
+			});
+		}
+
+		/**
+		 * Возвращает задачу проверки части объектов.
+		 *
+		 * @param from индекс первого объекта части.
+		 * @param to индекс следующего за последним объекта части.
+		 * @return задачу проверки.
+		 */
+		@NotNull
+		private ValidationTask part(final int from, final int to)
+		{
+			return new ValidationTask(
+				this.engine, this.batch, this.objects, this.violations, from, to, this.pushy, this.parallelThreshold
+			);
+		}
+	}
+}
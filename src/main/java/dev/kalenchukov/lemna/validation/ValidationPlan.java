@@ -0,0 +1,624 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.constraints.Valid;
+import dev.kalenchukov.lemna.validation.processing.GeneratedValidator;
+import dev.kalenchukov.lemna.validation.repositories.ValidatorRepository;
+import dev.kalenchukov.lemna.validation.validators.ExistValidator;
+import dev.kalenchukov.lemna.validation.validators.ExistenceBatch;
+import dev.kalenchukov.lemna.validation.validators.ValidValidator;
+import dev.kalenchukov.lemna.validation.validators.Validator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Класс плана проверки полей класса.
+ * <p>
+ * План строится один раз для каждого класса и содержит только те поля,
+ * которые помечены аннотациями с известными проверяющими, вместе с проверяющими
+ * в порядке объявления аннотаций и их скомпилированными проверками.
+ * Доступ к значениям полей выполняется через {@link MethodHandle}, полученный
+ * с помощью {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}.
+ * Для классов из именованных модулей пакет должен быть открыт для данного модуля.
+ * <p>
+ * Если для класса зарегистрирован {@link GeneratedValidator}, значения полей читаются
+ * через него без глубокой рефлексии, а поля, прошедшие его встроенные проверки,
+ * не проверяются проверяющими.
+ *
+ * @author Алексей Каленчуков
+ */
+final class ValidationPlan
+{
+	/**
+	 * Метод чтения значения поля через сгенерированного проверяющего.
+	 */
+	@NotNull
+	private static final MethodHandle GENERATED_GETTER = ValidationPlan.findGeneratedGetter();
+
+	/**
+	 * Примитивные типы полей, значения которых читаются без упаковки.
+	 */
+	@NotNull
+	private static final Set<@NotNull Class<?>> PRIMITIVES = Set.of(int.class, long.class, double.class);
+
+	/**
+	 * Проверяемые поля класса.
+	 */
+	@NotNull
+	private final FieldPlan @NotNull [] fields;
+
+	/**
+	 * Наличие блокирующих ограничений.
+	 */
+	private final boolean blocking;
+
+	/**
+	 * Конструктор для {@code ValidationPlan}.
+	 *
+	 * @param type класс, для которого строится план.
+	 * @param validatorRepository коллекция проверяющих.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code validatorRepository} передан {@code null}.
+	 * @throws InaccessibleObjectException если поля класса недоступны для чтения.
+	 */
+	ValidationPlan(@NotNull final Class<?> type, @NotNull final ValidatorRepository validatorRepository)
+	{
+		this(type, validatorRepository, new InstanceRegistry(), () -> null);
+	}
+
+	/**
+	 * Конструктор для {@code ValidationPlan}.
+	 *
+	 * @param type класс, для которого строится план.
+	 * @param validatorRepository коллекция проверяющих.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @param existenceCache поставщик кэша результатов проверки существования.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code validatorRepository} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code existenceCache} передан {@code null}.
+	 * @throws InaccessibleObjectException если поля класса недоступны для чтения.
+	 */
+	ValidationPlan(@NotNull final Class<?> type,
+				   @NotNull final ValidatorRepository validatorRepository,
+				   @NotNull final InstanceRegistry instanceRegistry,
+				   @NotNull final Supplier<@Nullable ExistenceCache> existenceCache)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(validatorRepository);
+		Objects.requireNonNull(instanceRegistry);
+		Objects.requireNonNull(existenceCache);
+
+		List<FieldPlan> fields = new ArrayList<>();
+		MethodHandles.Lookup lookup = null;
+		GeneratedValidator<Object> generated = ValidationPlan.findGenerated(type);
+		List<String> generatedFields = generated == null ? List.of() : List.of(generated.getFields());
+
+		for (Field field : type.getDeclaredFields())
+		{
+			List<ConstraintPlan> constraints = new ArrayList<>();
+
+			for (Annotation annotation : field.getDeclaredAnnotations())
+			{
+				Class<? extends Annotation> constraintType = annotation.annotationType();
+				Validator validator = validatorRepository.getValidator(constraintType.getName());
+
+				if (validator == null) {
+					continue;
+				}
+
+				validator = validator.bind(instanceRegistry, existenceCache).bind(field, annotation);
+				constraints.add(new ConstraintPlan(constraintType, validator, validator.compile(field)));
+			}
+
+			if (constraints.isEmpty()) {
+				continue;
+			}
+
+			int index = generatedFields.indexOf(field.getName());
+
+			if (index >= 0)
+			{
+				fields.add(new FieldPlan(
+					field,
+					MethodHandles.insertArguments(GENERATED_GETTER.bindTo(generated), 1, index),
+					constraints.toArray(ConstraintPlan[]::new),
+					object -> generated.check(object, index),
+					null
+				));
+
+				continue;
+			}
+
+			if (lookup == null) {
+				lookup = ValidationPlan.lookup(type);
+			}
+
+			MethodHandle getter = ValidationPlan.getter(lookup, field);
+
+			fields.add(new FieldPlan(
+				field,
+				getter.asType(MethodType.methodType(Object.class, Object.class)),
+				constraints.toArray(ConstraintPlan[]::new),
+				null,
+				PRIMITIVES.contains(field.getType()) ? getter.asType(MethodType.methodType(field.getType(), Object.class)) : null
+			));
+		}
+
+		this.fields = fields.toArray(FieldPlan[]::new);
+		this.blocking = fields.stream()
+			.flatMap(fieldPlan -> Arrays.stream(fieldPlan.getConstraints()))
+			.anyMatch(ConstraintPlan::isBlocking);
+	}
+
+	/**
+	 * Возвращает зарегистрированного сгенерированного проверяющего класса.
+	 *
+	 * @param type класс.
+	 * @return сгенерированный проверяющий, или {@code null} если он не зарегистрирован.
+	 */
+	@Nullable
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static GeneratedValidator<Object> findGenerated(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
+
+		String name = type.getName().replace('$', '_') + GeneratedValidator.SUFFIX;
+
+		try
+		{
+			for (ServiceLoader.Provider<GeneratedValidator> provider :
+				ServiceLoader.load(GeneratedValidator.class, type.getClassLoader()).stream().toList())
+			{
+				if (!provider.type().getName().equals(name)) {
+					continue;
+				}
+
+				GeneratedValidator<Object> generated = provider.get();
+
+				if (generated.getType().equals(type)) {
+					return generated;
+				}
+			}
+		}
+		catch (ServiceConfigurationError error)
+		{
+			return null;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Возвращает метод чтения значения поля через сгенерированного проверяющего.
+	 *
+	 * @return метод типа {@code (GeneratedValidator, Object, int) Object}.
+	 */
+	@NotNull
+	private static MethodHandle findGeneratedGetter()
+	{
+		try
+		{
+			return MethodHandles.lookup().findVirtual(
+				GeneratedValidator.class,
+				"getValue",
+				MethodType.methodType(Object.class, Object.class, int.class)
+			);
+		}
+		catch (NoSuchMethodException | IllegalAccessException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Возвращает объект поиска с полным доступом к классу.
+	 *
+	 * @param type класс.
+	 * @return объект поиска.
+	 * @throws InaccessibleObjectException если класс недоступен для глубокой рефлексии.
+	 */
+	@NotNull
+	private static MethodHandles.Lookup lookup(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
+
+		ValidationPlan.class.getModule().addReads(type.getModule());
+
+		try
+		{
+			return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+		}
+		catch (IllegalAccessException exception)
+		{
+			throw new InaccessibleObjectException(exception.getMessage());
+		}
+	}
+
+	/**
+	 * Возвращает метод чтения значения поля класса.
+	 * Метод приводится к типу {@code (Object) T}, где {@code T} тип поля, в том числе для статических полей.
+	 *
+	 * @param lookup объект поиска.
+	 * @param field поле класса.
+	 * @return метод чтения значения поля.
+	 * @throws InaccessibleObjectException если поле недоступно для чтения.
+	 */
+	@NotNull
+	private static MethodHandle getter(@NotNull final MethodHandles.Lookup lookup, @NotNull final Field field)
+	{
+		Objects.requireNonNull(lookup);
+		Objects.requireNonNull(field);
+
+		MethodHandle getter;
+
+		try
+		{
+			getter = lookup.unreflectGetter(field);
+		}
+		catch (IllegalAccessException exception)
+		{
+			throw new InaccessibleObjectException(exception.getMessage());
+		}
+
+		if (Modifier.isStatic(field.getModifiers())) {
+			getter = MethodHandles.dropArguments(getter, 0, Object.class);
+		}
+
+		return getter.asType(MethodType.methodType(field.getType(), Object.class));
+	}
+
+	/**
+	 * Возвращает проверяемые поля класса.
+	 *
+	 * @return массив проверяемых полей.
+	 */
+	@NotNull
+	FieldPlan @NotNull [] getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * Определяет наличие блокирующих ограничений.
+	 *
+	 * @return {@code true}, если у полей класса есть блокирующие ограничения, иначе {@code false}.
+	 * @see ConstraintPlan#isBlocking()
+	 */
+	boolean isBlocking()
+	{
+		return this.blocking;
+	}
+
+	/**
+	 * Класс плана проверки поля класса.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	static final class FieldPlan
+	{
+		/**
+		 * Поле класса.
+		 */
+		@NotNull
+		private final Field field;
+
+		/**
+		 * Метод чтения значения поля класса.
+		 */
+		@NotNull
+		private final MethodHandle getter;
+
+		/**
+		 * Ограничения поля класса в порядке объявления.
+		 */
+		@NotNull
+		private final ConstraintPlan @NotNull [] constraints;
+
+		/**
+		 * Встроенная проверка поля объекта сгенерированным проверяющим.
+		 */
+		@Nullable
+		private final Predicate<@NotNull Object> check;
+
+		/**
+		 * Метод чтения значения примитивного поля класса без упаковки.
+		 */
+		@Nullable
+		private final MethodHandle primitiveGetter;
+
+		/**
+		 * Пакетная проверка существования значения поля класса.
+		 */
+		private final boolean batchExistence;
+
+		/**
+		 * Конструктор для {@code FieldPlan}.
+		 *
+		 * @param field поле класса.
+		 * @param getter метод чтения значения поля класса.
+		 * @param constraints ограничения поля класса.
+		 * @param check встроенная проверка поля объекта.
+		 * @param primitiveGetter метод чтения значения примитивного поля класса без упаковки.
+		 */
+		private FieldPlan(@NotNull final Field field,
+						  @NotNull final MethodHandle getter,
+						  @NotNull final ConstraintPlan @NotNull [] constraints,
+						  @Nullable final Predicate<@NotNull Object> check,
+						  @Nullable final MethodHandle primitiveGetter)
+		{
+			this.field = field;
+			this.getter = getter;
+			this.constraints = constraints;
+			this.check = check;
+			this.primitiveGetter = primitiveGetter;
+			this.batchExistence = ExistenceBatch.isBatch(field);
+		}
+
+		/**
+		 * Возвращает поле класса.
+		 *
+		 * @return поле класса.
+		 */
+		@NotNull
+		Field getField()
+		{
+			return this.field;
+		}
+
+		/**
+		 * Возвращает значение поля объекта.
+		 *
+		 * @param object объект класса.
+		 * @return значение поля.
+		 */
+		@Nullable
+		Object getValue(@NotNull final Object object)
+		{
+			try
+			{
+				return (Object) this.getter.invokeExact(object);
+			}
+			catch (RuntimeException | Error exception)
+			{
+				throw exception;
+			}
+			catch (Throwable exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+
+		/**
+		 * Определяет, читается ли значение поля класса без упаковки.
+		 * Такие поля имеют тип {@code int}, {@code long} или {@code double}.
+		 *
+		 * @return {@code true}, если значение читается без упаковки, иначе {@code false}.
+		 */
+		boolean isPrimitive()
+		{
+			return this.primitiveGetter != null;
+		}
+
+		/**
+		 * Определяет, проверяется ли существование значения поля класса пакетно.
+		 *
+		 * @return {@code true}, если для поля задано ограничение {@code Exist}
+		 * с классом {@code BatchExistable}, иначе {@code false}.
+		 */
+		boolean isBatchExistence()
+		{
+			return this.batchExistence;
+		}
+
+		/**
+		 * Возвращает значение поля объекта типа {@code int}.
+		 *
+		 * @param object объект класса.
+		 * @return значение поля.
+		 */
+		int getInt(@NotNull final Object object)
+		{
+			try
+			{
+				return (int) this.primitiveGetter.invokeExact(object);
+			}
+			catch (RuntimeException | Error exception)
+			{
+				throw exception;
+			}
+			catch (Throwable exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+
+		/**
+		 * Возвращает значение поля объекта типа {@code long}.
+		 *
+		 * @param object объект класса.
+		 * @return значение поля.
+		 */
+		long getLong(@NotNull final Object object)
+		{
+			try
+			{
+				return (long) this.primitiveGetter.invokeExact(object);
+			}
+			catch (RuntimeException | Error exception)
+			{
+				throw exception;
+			}
+			catch (Throwable exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+
+		/**
+		 * Возвращает значение поля объекта типа {@code double}.
+		 *
+		 * @param object объект класса.
+		 * @return значение поля.
+		 */
+		double getDouble(@NotNull final Object object)
+		{
+			try
+			{
+				return (double) this.primitiveGetter.invokeExact(object);
+			}
+			catch (RuntimeException | Error exception)
+			{
+				throw exception;
+			}
+			catch (Throwable exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+
+		/**
+		 * Возвращает ограничения поля класса.
+		 *
+		 * @return массив ограничений.
+		 */
+		@NotNull
+		ConstraintPlan @NotNull [] getConstraints()
+		{
+			return this.constraints;
+		}
+
+		/**
+		 * Возвращает встроенную проверку поля объекта сгенерированным проверяющим.
+		 *
+		 * @return встроенную проверку, или {@code null} если сгенерированный проверяющий не зарегистрирован.
+		 */
+		@Nullable
+		Predicate<@NotNull Object> getCheck()
+		{
+			return this.check;
+		}
+	}
+
+	/**
+	 * Класс плана проверки ограничения поля класса.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	static final class ConstraintPlan
+	{
+		/**
+		 * Тип аннотации ограничения.
+		 */
+		@NotNull
+		private final Class<? extends Annotation> type;
+
+		/**
+		 * Проверяющий ограничения.
+		 */
+		@NotNull
+		private final Validator validator;
+
+		/**
+		 * Скомпилированная проверка ограничения.
+		 */
+		@Nullable
+		private final Predicate<@Nullable Object> check;
+
+		/**
+		 * Блокирующее ограничение.
+		 */
+		private final boolean blocking;
+
+		/**
+		 * Конструктор для {@code ConstraintPlan}.
+		 *
+		 * @param type тип аннотации ограничения.
+		 * @param validator проверяющий ограничения.
+		 * @param check скомпилированная проверка ограничения.
+		 */
+		private ConstraintPlan(@NotNull final Class<? extends Annotation> type,
+							   @NotNull final Validator validator,
+							   @Nullable final Predicate<@Nullable Object> check)
+		{
+			this.type = type;
+			this.validator = validator;
+			this.check = check;
+			this.blocking = validator instanceof ExistValidator || validator instanceof ValidValidator;
+		}
+
+		/**
+		 * Возвращает тип аннотации ограничения.
+		 *
+		 * @return тип аннотации.
+		 */
+		@NotNull
+		Class<? extends Annotation> getType()
+		{
+			return this.type;
+		}
+
+		/**
+		 * Возвращает проверяющего ограничения.
+		 *
+		 * @return проверяющий.
+		 */
+		@NotNull
+		Validator getValidator()
+		{
+			return this.validator;
+		}
+
+		/**
+		 * Возвращает скомпилированную проверку ограничения.
+		 *
+		 * @return скомпилированную проверку, или {@code null} если проверяющий её не поддерживает.
+		 */
+		@Nullable
+		Predicate<@Nullable Object> getCheck()
+		{
+			return this.check;
+		}
+
+		/**
+		 * Определяет, является ли ограничение блокирующим.
+		 * Блокирующими являются ограничения {@link Exist} и {@link Valid}, в том числе повторяющиеся,
+		 * проверка которых выполняется собственными реализациями и может обращаться к внешним ресурсам.
+		 *
+		 * @return {@code true}, если ограничение блокирующее, иначе {@code false}.
+		 */
+		boolean isBlocking()
+		{
+			return this.blocking;
+		}
+	}
+}
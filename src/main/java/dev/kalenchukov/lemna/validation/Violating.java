@@ -47,6 +47,17 @@ public interface Violating
 	@NotNull
 	String getMessage();
 
+	/**
+	 * Возвращает код нарушения.
+	 *
+	 * @return код нарушения, или {@code null} если код нарушения неизвестен.
+	 */
+	@Nullable
+	default String getCode()
+	{
+		return null;
+	}
+
 	/**
 	 * Возвращает параметры нарушения.
 	 * <ul>
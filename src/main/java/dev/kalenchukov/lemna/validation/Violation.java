@@ -22,10 +22,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Класс нарушения.
@@ -43,8 +42,14 @@ public final class Violation implements Violating
 	/**
 	 * Сообщение о нарушении.
 	 */
-	@NotNull
-	private final String message;
+	@Nullable
+	private volatile String message;
+
+	/**
+	 * Способ формирования сообщения о нарушении.
+	 */
+	@Nullable
+	private volatile Supplier<@NotNull String> messageSupplier;
 
 	/**
 	 * Параметры нарушения.
@@ -76,7 +81,38 @@ public final class Violation implements Violating
 
 		this.field = field;
 		this.message = message;
-		this.params = new HashMap<>(params);
+		this.messageSupplier = null;
+		this.params = Map.copyOf(params);
+	}
+
+	/**
+	 * Конструктор для {@code Violation}.
+	 * <p>
+	 * Сообщение о нарушении формируется при первом вызове {@link #getMessage()}.
+	 *
+	 * @param field название поля класса.
+	 * @param messageSupplier способ формирования сообщения о нарушении.
+	 * @param params параметры нарушения.
+	 * <ul>
+	 * 		<li><b>key</b> - название.</li>
+	 * 		<li><b>value</b> - значение.</li>
+	 * </ul>
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code messageSupplier} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code params} передан {@code null}.
+	 */
+	public Violation(@NotNull final String field,
+					 @NotNull final Supplier<@NotNull String> messageSupplier,
+					 @NotNull final Map<@NotNull String, @NotNull String> params)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(messageSupplier);
+		Objects.requireNonNull(params);
+
+		this.field = field;
+		this.message = null;
+		this.messageSupplier = messageSupplier;
+		this.params = Map.copyOf(params);
 	}
 
 	/**
@@ -98,7 +134,22 @@ public final class Violation implements Violating
 	@NotNull
 	public String getMessage()
 	{
-		return this.message;
+		String message = this.message;
+
+		if (message == null)
+		{
+			Supplier<String> messageSupplier = this.messageSupplier;
+
+			if (messageSupplier == null) {
+				return Objects.requireNonNull(this.message);
+			}
+
+			message = Objects.requireNonNull(messageSupplier.get());
+			this.message = message;
+			this.messageSupplier = null;
+		}
+
+		return message;
 	}
 
 	/**
@@ -110,7 +161,7 @@ public final class Violation implements Violating
 	@NotNull
 	public Map<@NotNull String, @NotNull String> getParams()
 	{
-		return Collections.unmodifiableMap(this.params);
+		return this.params;
 	}
 
 	/**
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * Интерфейс для реализации получателя нарушений.
+ * <p>
+ * Получает нарушения по мере их обнаружения, без построения коллекции нарушений.
+ * Код нарушения доступен через {@link Violating#getCode()}, а параметры - через {@link Violating#getParams()}.
+ *
+ * @author Алексей Каленчуков
+ */
+@FunctionalInterface
+public interface ViolationSink
+{
+	/**
+	 * Принимает нарушение.
+	 *
+	 * @param field поле класса.
+	 * @param constraint тип нарушенного ограничения.
+	 * @param violation нарушение.
+	 * @return {@code true}, если проверку необходимо продолжить, иначе {@code false}.
+	 */
+	boolean accept(@NotNull Field field,
+				   @NotNull Class<? extends @NotNull Annotation> constraint,
+				   @NotNull Violating violation);
+}
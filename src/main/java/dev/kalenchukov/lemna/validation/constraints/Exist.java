@@ -19,6 +19,7 @@
 package dev.kalenchukov.lemna.validation.constraints;
 
 import dev.kalenchukov.lemna.validation.interfaces.Existable;
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.*;
@@ -42,6 +43,23 @@ public @interface Exist
 	@NotNull
 	Class<? extends Existable<?>> existence();
 
+	/**
+	 * Задаёт жизненный цикл экземпляра класса с собственной реализацией проверки существования.
+	 *
+	 * @return жизненный цикл экземпляра.
+	 */
+	@NotNull
+	Lifecycle lifecycle() default Lifecycle.CALL;
+
+	/**
+	 * Задаёт кэширование результатов проверки существования.
+	 * Результаты кэшируются, только если для механизма проверки задан
+	 * {@link dev.kalenchukov.lemna.validation.ExistenceCache}.
+	 *
+	 * @return {@code true}, если результаты можно кэшировать, иначе {@code false}.
+	 */
+	boolean cached() default true;
+
 	/**
 	 * Задаёт сообщение о нарушении.
 	 * Переменные:
@@ -19,6 +19,7 @@
 package dev.kalenchukov.lemna.validation.constraints;
 
 import dev.kalenchukov.lemna.validation.interfaces.Validable;
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.*;
@@ -42,6 +43,14 @@ public @interface Valid
 	@NotNull
 	Class<? extends Validable<?>> validator();
 
+	/**
+	 * Задаёт жизненный цикл экземпляра класса с собственной реализацией проверки корректности.
+	 *
+	 * @return жизненный цикл экземпляра.
+	 */
+	@NotNull
+	Lifecycle lifecycle() default Lifecycle.CALL;
+
 	/**
 	 * Задаёт сообщение о нарушении.
 	 * Переменные:
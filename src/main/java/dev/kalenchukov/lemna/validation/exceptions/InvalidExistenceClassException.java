@@ -36,4 +36,15 @@ public class InvalidExistenceClassException extends RuntimeException
 	{
 		super(message);
 	}
+
+	/**
+	 * Конструктор для {@code InvalidExistenceClassException}.
+	 *
+	 * @param message сообщение.
+	 * @param cause причина.
+	 */
+	public InvalidExistenceClassException(@Nullable final String message, @Nullable final Throwable cause)
+	{
+		super(message, cause);
+	}
 }
@@ -36,4 +36,15 @@ public class InvalidValidationClassException extends RuntimeException
 	{
 		super(message);
 	}
+
+	/**
+	 * Конструктор для {@code InvalidValidationClassException}.
+	 *
+	 * @param message сообщение.
+	 * @param cause причина.
+	 */
+	public InvalidValidationClassException(@Nullable final String message, @Nullable final Throwable cause)
+	{
+		super(message, cause);
+	}
 }
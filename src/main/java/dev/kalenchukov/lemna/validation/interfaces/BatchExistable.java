@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Интерфейс для реализации собственного класса для пакетной проверки существования.
+ * <p>
+ * При проверке множества объектов все различные значения полей
+ * проверяются одним вызовом {@link #existing(Collection)}.
+ * При проверке одного объекта используется {@link #exist(Object)}.
+ *
+ * @param <V> тип поля класса.
+ * @author Алексей Каленчуков
+ */
+public interface BatchExistable<V> extends Existable<V>
+{
+	/**
+	 * Возвращает существующие значения.
+	 *
+	 * @param values различные значения полей класса.
+	 * @return значения из {@code values}, которые существуют.
+	 */
+	@NotNull
+	Set<@NotNull V> existing(@NotNull Collection<@NotNull V> values);
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.localizations;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс каталога локализованных текстов.
+ * <p>
+ * Тексты логирования, нарушений и исключений читаются из файлов локализации
+ * один раз для каждой локализации и далее используются всеми проверяющими и механизмами проверки.
+ * Каталог неизменяем и может одновременно использоваться из разных потоков.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class MessageCatalog
+{
+	/**
+	 * Каталоги по локализациям.
+	 */
+	@NotNull
+	private static final ConcurrentMap<@NotNull Locale, @NotNull MessageCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+	/**
+	 * Локализованные тексты логирования по кодам.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull String> logs;
+
+	/**
+	 * Локализованные тексты нарушений по кодам.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull String> violations;
+
+	/**
+	 * Локализованные тексты исключений по кодам.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull String> exceptions;
+
+	/**
+	 * Конструктор для {@code MessageCatalog}.
+	 *
+	 * @param locale локализация.
+	 */
+	private MessageCatalog(@NotNull final Locale locale)
+	{
+		this.logs = MessageCatalog.read("lemna/validation/localizations/logs", locale);
+		this.violations = MessageCatalog.read("lemna/validation/localizations/violations", locale);
+		this.exceptions = MessageCatalog.read("lemna/validation/localizations/exceptions", locale);
+	}
+
+	/**
+	 * Возвращает каталог для локализации.
+	 *
+	 * @param locale локализация.
+	 * @return каталог локализованных текстов.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 */
+	@NotNull
+	public static MessageCatalog getInstance(@NotNull final Locale locale)
+	{
+		Objects.requireNonNull(locale);
+
+		return CATALOGS.computeIfAbsent(locale, MessageCatalog::new);
+	}
+
+	/**
+	 * Возвращает текст логирования.
+	 *
+	 * @param code код текста.
+	 * @return текст логирования.
+	 * @throws MissingResourceException если текста с кодом {@code code} нет.
+	 */
+	@NotNull
+	public String getLog(@NotNull final String code)
+	{
+		return MessageCatalog.get(this.logs, code);
+	}
+
+	/**
+	 * Возвращает текст нарушения.
+	 *
+	 * @param code код нарушения.
+	 * @return текст нарушения.
+	 * @throws MissingResourceException если текста с кодом {@code code} нет.
+	 */
+	@NotNull
+	public String getViolation(@NotNull final String code)
+	{
+		return MessageCatalog.get(this.violations, code);
+	}
+
+	/**
+	 * Возвращает текст исключения.
+	 *
+	 * @param code код исключения.
+	 * @return текст исключения.
+	 * @throws MissingResourceException если текста с кодом {@code code} нет.
+	 */
+	@NotNull
+	public String getException(@NotNull final String code)
+	{
+		return MessageCatalog.get(this.exceptions, code);
+	}
+
+	/**
+	 * Возвращает текст по коду.
+	 *
+	 * @param texts тексты по кодам.
+	 * @param code код текста.
+	 * @return текст.
+	 * @throws MissingResourceException если текста с кодом {@code code} нет.
+	 */
+	@NotNull
+	private static String get(@NotNull final Map<@NotNull String, @NotNull String> texts, @NotNull final String code)
+	{
+		Objects.requireNonNull(code);
+
+		String text = texts.get(code);
+
+		if (text == null) {
+			throw new MissingResourceException(code, MessageCatalog.class.getName(), code);
+		}
+
+		return text;
+	}
+
+	/**
+	 * Читает все тексты файла локализации.
+	 *
+	 * @param baseName название файла локализации.
+	 * @param locale локализация.
+	 * @return тексты по кодам.
+	 */
+	@NotNull
+	private static Map<@NotNull String, @NotNull String> read(@NotNull final String baseName,
+															  @NotNull final Locale locale)
+	{
+		ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale);
+		Map<String, String> texts = new HashMap<>();
+
+		for (String code : bundle.keySet())
+		{
+			texts.put(code, bundle.getString(code));
+		}
+
+		return Map.copyOf(texts);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.processing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Интерфейс для реализации сгенерированного проверяющего класса.
+ * <p>
+ * Реализации создаются {@link ValidationProcessor} на этапе компиляции и
+ * регистрируются как сервисы. Сгенерированный проверяющий читает значения полей
+ * напрямую и содержит встроенные проверки ограничений, значения которых известны при компиляции.
+ *
+ * @param <T> тип проверяемого класса.
+ * @author Алексей Каленчуков
+ */
+public interface GeneratedValidator<T>
+{
+	/**
+	 * Окончание названия сгенерированного класса.
+	 * Название сгенерированного класса состоит из двоичного названия проверяемого класса,
+	 * в котором {@code $} заменён на {@code _}, и данного окончания.
+	 */
+	@NotNull
+	String SUFFIX = "LemnaValidator";
+
+	/**
+	 * Возвращает проверяемый класс.
+	 *
+	 * @return проверяемый класс.
+	 */
+	@NotNull
+	Class<T> getType();
+
+	/**
+	 * Возвращает названия проверяемых полей класса в порядке объявления.
+	 *
+	 * @return массив названий полей.
+	 */
+	@NotNull
+	String @NotNull [] getFields();
+
+	/**
+	 * Возвращает значение поля объекта.
+	 *
+	 * @param object объект класса.
+	 * @param field индекс поля в {@link #getFields()}.
+	 * @return значение поля.
+	 * @throws IndexOutOfBoundsException если {@code field} вне диапазона.
+	 */
+	@Nullable
+	Object getValue(@NotNull T object, int field);
+
+	/**
+	 * Проверяет поле объекта встроенными проверками.
+	 * <p>
+	 * Возвращает {@code true} только если значение поля заведомо корректно для всех его ограничений.
+	 * При {@code false} поле проверяется проверяющими ограничений.
+	 *
+	 * @param object объект класса.
+	 * @param field индекс поля в {@link #getFields()}.
+	 * @return {@code true}, если значение поля заведомо корректно, иначе {@code false}.
+	 * @throws IndexOutOfBoundsException если {@code field} вне диапазона.
+	 */
+	boolean check(@NotNull T object, int field);
+}
@@ -0,0 +1,808 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.processing;
+
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.resources.DayOfWeekFormat;
+import dev.kalenchukov.lemna.validation.resources.HourFormat;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Класс обработчика аннотаций ограничений.
+ * <p>
+ * Для каждого класса с ограничениями генерирует класс {@code <Класс>LemnaValidator},
+ * реализующий {@link GeneratedValidator}, и регистрирует его в {@code META-INF/services}.
+ * Значения полей читаются напрямую, как и при проверке через рефлексию.
+ * Класс не генерируется, если проверяемый класс недоступен из своего пакета
+ * или хотя бы одно поле с ограничениями закрытое.
+ * <p>
+ * Обработчик не регистрируется как служба и подключается явно,
+ * например параметром компилятора {@code -processor}.
+ *
+ * @author Алексей Каленчуков
+ */
+@SupportedAnnotationTypes("dev.kalenchukov.lemna.validation.constraints.*")
+public final class ValidationProcessor extends AbstractProcessor
+{
+	/**
+	 * Пакет ограничений.
+	 */
+	@NotNull
+	private static final String CONSTRAINTS = "dev.kalenchukov.lemna.validation.constraints";
+
+	/**
+	 * Названия сгенерированных классов.
+	 */
+	@NotNull
+	private final Set<@NotNull String> generated;
+
+	/**
+	 * Каталог локализованных текстов.
+	 */
+	@NotNull
+	private final MessageCatalog messageCatalog;
+
+	/**
+	 * Конструктор для {@code ValidationProcessor}.
+	 */
+	public ValidationProcessor()
+	{
+		this.generated = new TreeSet<>();
+		this.messageCatalog = MessageCatalog.getInstance(new Locale("ru", "RU"));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param annotations {@inheritDoc}
+	 * @param roundEnvironment {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean process(@NotNull final Set<? extends TypeElement> annotations,
+						   @NotNull final RoundEnvironment roundEnvironment)
+	{
+		Objects.requireNonNull(annotations);
+		Objects.requireNonNull(roundEnvironment);
+
+		if (roundEnvironment.processingOver())
+		{
+			this.writeServices();
+
+			return false;
+		}
+
+		Set<TypeElement> types = new LinkedHashSet<>();
+
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() == ElementKind.FIELD) {
+					types.add((TypeElement) element.getEnclosingElement());
+				}
+			}
+		}
+
+		for (TypeElement type : types)
+		{
+			this.generate(type);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Генерирует проверяющего для класса.
+	 *
+	 * @param type класс.
+	 */
+	private void generate(@NotNull final TypeElement type)
+	{
+		Objects.requireNonNull(type);
+
+		if (!this.isAccessible(type))
+		{
+			this.note(String.format(
+				this.messageCatalog.getLog("00009"),
+				type.getQualifiedName()
+			));
+
+			return;
+		}
+
+		List<String> names = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		List<String> checks = new ArrayList<>();
+
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+		{
+			List<AnnotationMirror> constraints = this.getConstraints(field);
+
+			if (constraints.isEmpty()) {
+				continue;
+			}
+
+			String value = this.getValue(type, field);
+
+			if (value == null)
+			{
+				this.note(String.format(
+					this.messageCatalog.getLog("00010"),
+					type.getQualifiedName(),
+					field.getSimpleName()
+				));
+
+				return;
+			}
+
+			names.add(field.getSimpleName().toString());
+			values.add(value);
+			checks.add(this.getCheck(field, constraints));
+		}
+
+		String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+		String qualifiedName = binaryName.replace('$', '_') + GeneratedValidator.SUFFIX;
+
+		try
+		{
+			JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+			try (Writer writer = file.openWriter())
+			{
+				writer.write(this.getSource(type, qualifiedName, names, values, checks));
+			}
+
+			this.generated.add(qualifiedName);
+		}
+		catch (IOException exception)
+		{
+			this.error(String.format(
+				this.messageCatalog.getLog("00011"),
+				qualifiedName,
+				exception.getMessage()
+			));
+		}
+	}
+
+	/**
+	 * Записывает регистрацию сгенерированных проверяющих в {@code META-INF/services}.
+	 * <p>
+	 * Регистрации, записанные предыдущими компиляциями, сохраняются,
+	 * поэтому при инкрементальной сборке не теряются проверяющие неизменённых классов.
+	 */
+	private void writeServices()
+	{
+		if (this.generated.isEmpty()) {
+			return;
+		}
+
+		String name = "META-INF/services/" + GeneratedValidator.class.getName();
+		Set<String> services = new TreeSet<>(this.readServices(name));
+		services.addAll(this.generated);
+
+		try
+		{
+			FileObject file = this.processingEnv.getFiler().createResource(
+				StandardLocation.CLASS_OUTPUT, "", name
+			);
+
+			try (Writer writer = file.openWriter())
+			{
+				for (String qualifiedName : services)
+				{
+					writer.write(qualifiedName);
+					writer.write("\n");
+				}
+			}
+		}
+		catch (IOException exception)
+		{
+			this.error(String.format(
+				this.messageCatalog.getLog("00011"),
+				name,
+				exception.getMessage()
+			));
+		}
+	}
+
+	/**
+	 * Возвращает регистрации сгенерированных проверяющих, записанные предыдущими компиляциями.
+	 *
+	 * @param name название файла регистрации.
+	 * @return названия классов, или пустую коллекцию если файла нет.
+	 */
+	@NotNull
+	private List<@NotNull String> readServices(@NotNull final String name)
+	{
+		Objects.requireNonNull(name);
+
+		List<String> services = new ArrayList<>();
+
+		try
+		{
+			FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", name);
+
+			for (String line : file.getCharContent(true).toString().split("\\R"))
+			{
+				int comment = line.indexOf('#');
+				String qualifiedName = (comment >= 0 ? line.substring(0, comment) : line).strip();
+
+				if (!qualifiedName.isEmpty()) {
+					services.add(qualifiedName);
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException exception)
+		{
+			return List.of();
+		}
+
+		return services;
+	}
+
+	/**
+	 * Определяет доступность класса из его пакета.
+	 *
+	 * @param type класс.
+	 * @return {@code true}, если класс доступен, иначе {@code false}.
+	 */
+	private boolean isAccessible(@NotNull final TypeElement type)
+	{
+		Objects.requireNonNull(type);
+
+		if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+			return false;
+		}
+
+		if (type.getModifiers().contains(Modifier.PRIVATE)) {
+			return false;
+		}
+
+		if (type.getNestingKind() == NestingKind.TOP_LEVEL) {
+			return true;
+		}
+
+		if (type.getNestingKind() != NestingKind.MEMBER || !type.getModifiers().contains(Modifier.STATIC)) {
+			return false;
+		}
+
+		Element enclosing = type.getEnclosingElement();
+
+		return enclosing instanceof TypeElement && this.isAccessible((TypeElement) enclosing);
+	}
+
+	/**
+	 * Возвращает ограничения поля класса.
+	 *
+	 * @param field поле класса.
+	 * @return коллекцию аннотаций ограничений.
+	 */
+	@NotNull
+	private List<@NotNull AnnotationMirror> getConstraints(@NotNull final VariableElement field)
+	{
+		Objects.requireNonNull(field);
+
+		List<AnnotationMirror> constraints = new ArrayList<>();
+
+		for (AnnotationMirror annotation : field.getAnnotationMirrors())
+		{
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			PackageElement annotationPackage = this.processingEnv.getElementUtils().getPackageOf(annotationType);
+
+			if (annotationPackage.getQualifiedName().contentEquals(CONSTRAINTS)) {
+				constraints.add(annotation);
+			}
+		}
+
+		return constraints;
+	}
+
+	/**
+	 * Возвращает выражение чтения значения поля класса.
+	 *
+	 * @param type класс.
+	 * @param field поле класса.
+	 * @return выражение, или {@code null} если поле недоступно из пакета класса.
+	 */
+	@Nullable
+	private String getValue(@NotNull final TypeElement type, @NotNull final VariableElement field)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(field);
+
+		if (field.getModifiers().contains(Modifier.PRIVATE)) {
+			return null;
+		}
+
+		boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+		String target = isStatic ? type.getQualifiedName().toString() : "object";
+
+		return target + "." + field.getSimpleName();
+	}
+
+	/**
+	 * Возвращает встроенную проверку поля класса.
+	 *
+	 * @param field поле класса.
+	 * @param constraints аннотации ограничений поля класса.
+	 * @return код проверки в виде блока {@code case}.
+	 */
+	@NotNull
+	private String getCheck(@NotNull final VariableElement field,
+							@NotNull final List<@NotNull AnnotationMirror> constraints)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraints);
+
+		TypeMirror type = field.asType();
+		TypeKind kind = this.getPrimitiveKind(type);
+		boolean primitive = type.getKind().isPrimitive();
+		List<String> conditions = new ArrayList<>();
+
+		for (AnnotationMirror constraint : constraints)
+		{
+			String condition = this.getCondition(type, kind, constraint);
+
+			if (condition == null) {
+				return "return false;";
+			}
+
+			conditions.add(condition);
+		}
+
+		return this.getValueType(type, kind, primitive) + " value = %VALUE%;\n"
+			+ "\t\t\t\treturn " + String.join("\n\t\t\t\t\t&& ", conditions) + ";";
+	}
+
+	/**
+	 * Возвращает условие встроенной проверки ограничения.
+	 *
+	 * @param type тип поля класса.
+	 * @param kind примитивный тип поля класса, или {@code null} если тип не примитивный и не обёртка.
+	 * @param constraint аннотация ограничения.
+	 * @return условие, или {@code null} если ограничение не встраивается для данного типа поля.
+	 */
+	@Nullable
+	private String getCondition(@NotNull final TypeMirror type,
+								@Nullable final TypeKind kind,
+								@NotNull final AnnotationMirror constraint)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(constraint);
+
+		boolean primitive = type.getKind().isPrimitive();
+		Set<TypeKind> integers = EnumSet.of(TypeKind.BYTE, TypeKind.SHORT, TypeKind.INT, TypeKind.LONG);
+
+		switch (constraint.getAnnotationType().asElement().getSimpleName().toString())
+		{
+			case "NoNull":
+				return primitive ? "true" : "value != null";
+
+			case "Number":
+				if (!integers.contains(kind)) {
+					return null;
+				}
+
+				return ValidationProcessor.range(
+					primitive,
+					"value",
+					this.getAttribute(constraint, "min") + "L",
+					this.getAttribute(constraint, "max") + "L"
+				);
+
+			case "Year":
+				if (kind != TypeKind.SHORT && kind != TypeKind.INT && kind != TypeKind.LONG) {
+					return null;
+				}
+
+				return ValidationProcessor.range(
+					primitive,
+					"value",
+					String.valueOf(this.getAttribute(constraint, "min")),
+					String.valueOf(this.getAttribute(constraint, "max"))
+				);
+
+			case "Hour":
+				if (!integers.contains(kind)) {
+					return null;
+				}
+
+				HourFormat hourFormat = HourFormat.valueOf(this.getAttribute(constraint, "format").toString());
+
+				return ValidationProcessor.range(
+					primitive,
+					"value",
+					String.valueOf(hourFormat.getMinHour()),
+					String.valueOf(hourFormat.getMaxHour())
+				);
+
+			case "DayOfWeek":
+				if (!integers.contains(kind)) {
+					return null;
+				}
+
+				DayOfWeekFormat dayOfWeekFormat = DayOfWeekFormat.valueOf(this.getAttribute(constraint, "format").toString());
+
+				return ValidationProcessor.range(
+					primitive,
+					"value",
+					String.valueOf(dayOfWeekFormat.getFirstDay()),
+					String.valueOf(dayOfWeekFormat.getLastDay())
+				);
+
+			case "NumberFloat":
+				if (kind != TypeKind.FLOAT && kind != TypeKind.DOUBLE) {
+					return null;
+				}
+
+				return ValidationProcessor.range(
+					primitive,
+					"value",
+					ValidationProcessor.literal((Double) this.getAttribute(constraint, "min")),
+					ValidationProcessor.literal((Double) this.getAttribute(constraint, "max"))
+				);
+
+			case "Length":
+				if (!this.isSubtype(type, String.class)) {
+					return null;
+				}
+
+				return ValidationProcessor.range(
+					false,
+					"value.length()",
+					String.valueOf(this.getAttribute(constraint, "min")),
+					String.valueOf(this.getAttribute(constraint, "max"))
+				);
+
+			case "Size":
+				String size;
+
+				if (type.getKind() == TypeKind.ARRAY)
+				{
+					size = "java.lang.reflect.Array.getLength(value)";
+				}
+				else if (this.isSubtype(type, Collection.class) || this.isSubtype(type, Map.class))
+				{
+					size = "value.size()";
+				}
+				else
+				{
+					return null;
+				}
+
+				return ValidationProcessor.range(
+					false,
+					size,
+					String.valueOf(this.getAttribute(constraint, "min")),
+					String.valueOf(this.getAttribute(constraint, "max"))
+				);
+
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Возвращает тип локальной переменной значения поля класса во встроенной проверке.
+	 *
+	 * @param type тип поля класса.
+	 * @param kind примитивный тип поля класса, или {@code null} если тип не примитивный и не обёртка.
+	 * @param primitive является ли тип поля примитивным.
+	 * @return название типа.
+	 */
+	@NotNull
+	private String getValueType(@NotNull final TypeMirror type,
+								@Nullable final TypeKind kind,
+								final boolean primitive)
+	{
+		Objects.requireNonNull(type);
+
+		if (primitive) {
+			return type.toString();
+		}
+
+		if (kind != null) {
+			return this.processingEnv.getTypeUtils().boxedClass(
+				this.processingEnv.getTypeUtils().getPrimitiveType(kind)
+			).getQualifiedName().toString();
+		}
+
+		if (this.isSubtype(type, String.class)) {
+			return "java.lang.String";
+		}
+
+		if (this.isSubtype(type, Collection.class)) {
+			return "java.util.Collection<?>";
+		}
+
+		if (this.isSubtype(type, Map.class)) {
+			return "java.util.Map<?, ?>";
+		}
+
+		return "java.lang.Object";
+	}
+
+	/**
+	 * Возвращает примитивный тип поля класса.
+	 *
+	 * @param type тип поля класса.
+	 * @return примитивный тип, или {@code null} если тип не примитивный и не обёртка.
+	 */
+	@Nullable
+	private TypeKind getPrimitiveKind(@NotNull final TypeMirror type)
+	{
+		Objects.requireNonNull(type);
+
+		if (type.getKind().isPrimitive()) {
+			return type.getKind();
+		}
+
+		try
+		{
+			return this.processingEnv.getTypeUtils().unboxedType(type).getKind();
+		}
+		catch (IllegalArgumentException exception)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Определяет является ли тип подтипом класса.
+	 *
+	 * @param type тип.
+	 * @param superclass класс.
+	 * @return {@code true}, если {@code type} является подтипом {@code superclass}, иначе {@code false}.
+	 */
+	private boolean isSubtype(@NotNull final TypeMirror type, @NotNull final Class<?> superclass)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(superclass);
+
+		TypeElement element = this.processingEnv.getElementUtils().getTypeElement(superclass.getCanonicalName());
+
+		return this.processingEnv.getTypeUtils().isAssignable(
+			this.processingEnv.getTypeUtils().erasure(type),
+			this.processingEnv.getTypeUtils().erasure(element.asType())
+		);
+	}
+
+	/**
+	 * Возвращает значение атрибута аннотации с учётом значения по умолчанию.
+	 *
+	 * @param constraint аннотация ограничения.
+	 * @param name название атрибута.
+	 * @return значение атрибута.
+	 */
+	@NotNull
+	private Object getAttribute(@NotNull final AnnotationMirror constraint, @NotNull final String name)
+	{
+		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(name);
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute :
+			this.processingEnv.getElementUtils().getElementValuesWithDefaults(constraint).entrySet())
+		{
+			if (attribute.getKey().getSimpleName().contentEquals(name))
+			{
+				Object value = attribute.getValue().getValue();
+
+				if (value instanceof VariableElement) {
+					return ((VariableElement) value).getSimpleName();
+				}
+
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException(name);
+	}
+
+	/**
+	 * Возвращает исходный код сгенерированного проверяющего.
+	 *
+	 * @param type класс.
+	 * @param qualifiedName полное название сгенерированного класса.
+	 * @param names названия полей.
+	 * @param values выражения чтения значений полей.
+	 * @param checks встроенные проверки полей.
+	 * @return исходный код.
+	 */
+	@NotNull
+	private String getSource(@NotNull final TypeElement type,
+							 @NotNull final String qualifiedName,
+							 @NotNull final List<@NotNull String> names,
+							 @NotNull final List<@NotNull String> values,
+							 @NotNull final List<@NotNull String> checks)
+	{
+		String typeName = this.processingEnv.getTypeUtils().erasure(type.asType()).toString();
+		String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("@javax.annotation.processing.Generated(\"").append(ValidationProcessor.class.getName()).append("\")\n");
+		source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+		source.append("public final class ").append(simpleName)
+			.append(" implements ").append(GeneratedValidator.class.getName()).append("<").append(typeName).append(">\n");
+		source.append("{\n");
+
+		source.append("\tprivate static final String[] FIELDS = {");
+
+		for (int index = 0; index < names.size(); index++)
+		{
+			source.append(index == 0 ? "" : ", ").append('"').append(names.get(index)).append('"');
+		}
+
+		source.append("};\n\n");
+
+		source.append("\t@Override\n");
+		source.append("\tpublic Class<").append(typeName).append("> getType()\n");
+		source.append("\t{\n");
+		source.append("\t\treturn ").append(typeName).append(".class;\n");
+		source.append("\t}\n\n");
+
+		source.append("\t@Override\n");
+		source.append("\tpublic String[] getFields()\n");
+		source.append("\t{\n");
+		source.append("\t\treturn FIELDS.clone();\n");
+		source.append("\t}\n\n");
+
+		source.append("\t@Override\n");
+		source.append("\tpublic Object getValue(").append(typeName).append(" object, int field)\n");
+		source.append("\t{\n");
+		source.append("\t\tswitch (field)\n");
+		source.append("\t\t{\n");
+
+		for (int index = 0; index < values.size(); index++)
+		{
+			source.append("\t\t\tcase ").append(index).append(":\n");
+			source.append("\t\t\t\treturn ").append(values.get(index)).append(";\n");
+		}
+
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t\tthrow new IndexOutOfBoundsException(field);\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n\n");
+
+		source.append("\t@Override\n");
+		source.append("\tpublic boolean check(").append(typeName).append(" object, int field)\n");
+		source.append("\t{\n");
+		source.append("\t\tswitch (field)\n");
+		source.append("\t\t{\n");
+
+		for (int index = 0; index < checks.size(); index++)
+		{
+			source.append("\t\t\tcase ").append(index).append(":\n");
+			source.append("\t\t\t{\n");
+			source.append("\t\t\t\t").append(checks.get(index).replace("%VALUE%", values.get(index))).append("\n");
+			source.append("\t\t\t}\n");
+		}
+
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t\tthrow new IndexOutOfBoundsException(field);\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n");
+		source.append("}\n");
+
+		return source.toString();
+	}
+
+	/**
+	 * Выводит замечание компилятора.
+	 *
+	 * @param message текст замечания.
+	 */
+	private void note(@NotNull final String message)
+	{
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message);
+	}
+
+	/**
+	 * Выводит ошибку компилятора.
+	 *
+	 * @param message текст ошибки.
+	 */
+	private void error(@NotNull final String message)
+	{
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message);
+	}
+
+	/**
+	 * Возвращает условие попадания значения в диапазон.
+	 *
+	 * @param primitive является ли значение примитивным.
+	 * @param value выражение значения.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @return условие.
+	 */
+	@NotNull
+	private static String range(final boolean primitive,
+								@NotNull final String value,
+								@NotNull final String min,
+								@NotNull final String max)
+	{
+		String condition = "(" + value + " >= " + min + " && " + value + " <= " + max + ")";
+
+		if (primitive) {
+			return condition;
+		}
+
+		return "(value == null || " + condition + ")";
+	}
+
+	/**
+	 * Возвращает литерал числа с плавающей точкой.
+	 *
+	 * @param value число.
+	 * @return литерал.
+	 */
+	@NotNull
+	private static String literal(final double value)
+	{
+		if (Double.isNaN(value)) {
+			return "java.lang.Double.NaN";
+		}
+
+		if (value == Double.POSITIVE_INFINITY) {
+			return "java.lang.Double.POSITIVE_INFINITY";
+		}
+
+		if (value == Double.NEGATIVE_INFINITY) {
+			return "java.lang.Double.NEGATIVE_INFINITY";
+		}
+
+		return Double.toString(value) + "D";
+	}
+}
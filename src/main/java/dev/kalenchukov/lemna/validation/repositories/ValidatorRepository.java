@@ -26,35 +26,90 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * Класс репозиторий всех проверяющих.
+ * <p>
+ * Встроенные проверяющие создаются лениво, при первом обращении к их ограничению.
  *
  * @author Алексей Каленчуков
  */
 public final class ValidatorRepository
 {
+	/**
+	 * Фабрики встроенных проверяющих.
+	 */
+	@NotNull
+	private static final Map<@NotNull String, @NotNull Function<@NotNull Locale, @NotNull Validator>> FACTORIES = loadFactories();
+
+	/**
+	 * Общие репозитории для каждой локализации.
+	 */
+	@NotNull
+	private static final ConcurrentMap<@NotNull Locale, @NotNull ValidatorRepository> INSTANCES = new ConcurrentHashMap<>();
+
 	/**
 	 * Локализация.
 	 */
 	@NotNull
 	private final Locale locale;
 
+	/**
+	 * Возможность добавления проверяющих.
+	 */
+	private final boolean modifiable;
+
 	/**
 	 * Коллекция проверяющих.
 	 */
 	@NotNull
-	private final Map<@NotNull String, @NotNull Validator> validators;
+	private final ConcurrentMap<@NotNull String, @NotNull Validator> validators;
 
 	/**
 	 * Конструктор для {@code ValidatorRepository}.
 	 *
 	 * @param locale локализация.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
 	 */
 	public ValidatorRepository(@NotNull final Locale locale)
 	{
+		this(locale, true);
+	}
+
+	/**
+	 * Конструктор для {@code ValidatorRepository}.
+	 *
+	 * @param locale локализация.
+	 * @param modifiable возможность добавления проверяющих.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 */
+	private ValidatorRepository(@NotNull final Locale locale, final boolean modifiable)
+	{
+		Objects.requireNonNull(locale);
+
 		this.locale = locale;
-		this.validators = this.loadValidators();
+		this.modifiable = modifiable;
+		this.validators = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Возвращает общий для всего приложения репозиторий встроенных проверяющих.
+	 * <p>
+	 * Возвращаемый репозиторий неизменяем и может одновременно использоваться из разных потоков.
+	 *
+	 * @param locale локализация.
+	 * @return репозиторий проверяющих.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 */
+	@NotNull
+	public static ValidatorRepository getInstance(@NotNull final Locale locale)
+	{
+		Objects.requireNonNull(locale);
+
+		return INSTANCES.computeIfAbsent(locale, key -> new ValidatorRepository(key, false));
 	}
 
 	/**
@@ -66,26 +121,44 @@ public final class ValidatorRepository
 	@NotNull
 	public Map<@NotNull String, @NotNull Validator> getValidators()
 	{
+		FACTORIES.keySet().forEach(this::getValidator);
+
 		return Collections.unmodifiableMap(this.validators);
 	}
 
 	/**
 	 * Возвращает проверяющего.
 	 *
+	 * @param forConstraint ограничение для которого используется проверяющий.
 	 * @return проверяющий.
+	 * @throws NullPointerException если в качестве {@code forConstraint} передан {@code null}.
 	 */
 	@Nullable
 	public Validator getValidator(@NotNull final String forConstraint)
 	{
 		Objects.requireNonNull(forConstraint);
 
-		return this.validators.get(forConstraint);
+		Validator validator = this.validators.get(forConstraint);
+
+		if (validator != null) {
+			return validator;
+		}
+
+		Function<Locale, Validator> factory = FACTORIES.get(forConstraint);
+
+		if (factory == null) {
+			return null;
+		}
+
+		return this.validators.computeIfAbsent(forConstraint, key -> factory.apply(this.locale));
 	}
 
 	/**
 	 * Добавляет коллекцию проверяющих.
 	 *
 	 * @param validators коллекция проверяющих.
+	 * @throws NullPointerException если в качестве {@code validators} передан {@code null}.
+	 * @throws UnsupportedOperationException если репозиторий неизменяем.
 	 */
 	public void addValidators(@NotNull final Map<@NotNull String, @NotNull Validator> validators)
 	{
@@ -96,9 +169,13 @@ public final class ValidatorRepository
 
 	/**
 	 * Добавляет проверяющего.
+	 * Встроенные проверяющие не заменяются.
 	 *
 	 * @param forConstraint ограничение для которого используется проверяющий.
 	 * @param validator класс проверяющего.
+	 * @throws NullPointerException если в качестве {@code forConstraint} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code validator} передан {@code null}.
+	 * @throws UnsupportedOperationException если репозиторий неизменяем.
 	 */
 	public void addValidator(@NotNull final String forConstraint,
 							 @NotNull final Validator validator)
@@ -106,68 +183,79 @@ public final class ValidatorRepository
 		Objects.requireNonNull(forConstraint);
 		Objects.requireNonNull(validator);
 
+		if (!this.modifiable) {
+			throw new UnsupportedOperationException();
+		}
+
+		if (FACTORIES.containsKey(forConstraint)) {
+			return;
+		}
+
 		this.validators.putIfAbsent(forConstraint, validator);
 	}
 
 	/**
-	 * Загружает проверяющих.
+	 * Загружает фабрики встроенных проверяющих.
+	 *
+	 * @return коллекцию фабрик проверяющих.
 	 */
+	@Unmodifiable
 	@NotNull
-	private Map<@NotNull String, @NotNull Validator> loadValidators()
+	private static Map<@NotNull String, @NotNull Function<@NotNull Locale, @NotNull Validator>> loadFactories()
 	{
-		Map<String, Validator> validators = new HashMap<>();
+		Map<String, Function<Locale, Validator>> factories = new HashMap<>();
 
-		validators.put(Id.class.getName(), new IdValidator(this.locale));
-		validators.put(Size.class.getName(), new SizeValidator(this.locale));
-		validators.put(Length.class.getName(), new LengthValidator(this.locale));
-		validators.put(Localization.class.getName(), new LocalizationValidator(this.locale));
-		validators.put(Pattern.class.getName(), new PatternValidator(this.locale));
-		validators.put(Password.class.getName(), new PasswordValidator(this.locale));
-		validators.put(Md5.class.getName(), new Md5Validator(this.locale));
+		factories.put(Id.class.getName(), IdValidator::new);
+		factories.put(Size.class.getName(), SizeValidator::new);
+		factories.put(Length.class.getName(), LengthValidator::new);
+		factories.put(Localization.class.getName(), LocalizationValidator::new);
+		factories.put(Pattern.class.getName(), PatternValidator::new);
+		factories.put(Password.class.getName(), PasswordValidator::new);
+		factories.put(Md5.class.getName(), Md5Validator::new);
 
-		validators.put(NoNull.class.getName(), new NoNullValidator(this.locale));
-		validators.put(NoEmpty.class.getName(), new NoEmptyValidator(this.locale));
+		factories.put(NoNull.class.getName(), NoNullValidator::new);
+		factories.put(NoEmpty.class.getName(), NoEmptyValidator::new);
 
-		validators.put(Number.class.getName(), new NumberValidator(this.locale));
-		validators.put(NumberFloat.class.getName(), new NumberFloatValidator(this.locale));
+		factories.put(Number.class.getName(), NumberValidator::new);
+		factories.put(NumberFloat.class.getName(), NumberFloatValidator::new);
 
-		validators.put(Year.class.getName(), new YearValidator(this.locale));
-		validators.put(MonthOfYear.class.getName(), new MonthOfYearValidator(this.locale));
-		validators.put(WeekOfMonth.class.getName(), new WeekOfMonthValidator(this.locale));
-		validators.put(WeekOfYear.class.getName(), new WeekOfYearValidator(this.locale));
+		factories.put(Year.class.getName(), YearValidator::new);
+		factories.put(MonthOfYear.class.getName(), MonthOfYearValidator::new);
+		factories.put(WeekOfMonth.class.getName(), WeekOfMonthValidator::new);
+		factories.put(WeekOfYear.class.getName(), WeekOfYearValidator::new);
 
-		validators.put(DayOfWeek.class.getName(), new DayOfWeekValidator(this.locale));
-		validators.put(DayOfMonth.class.getName(), new DayOfMonthValidator(this.locale));
-		validators.put(DayOfYear.class.getName(), new DayOfYearValidator(this.locale));
+		factories.put(DayOfWeek.class.getName(), DayOfWeekValidator::new);
+		factories.put(DayOfMonth.class.getName(), DayOfMonthValidator::new);
+		factories.put(DayOfYear.class.getName(), DayOfYearValidator::new);
 
-		validators.put(Hour.class.getName(), new HourValidator(this.locale));
-		validators.put(Minute.class.getName(), new MinuteValidator(this.locale));
-		validators.put(Second.class.getName(), new SecondValidator(this.locale));
-		validators.put(Millisecond.class.getName(), new MillisecondValidator(this.locale));
+		factories.put(Hour.class.getName(), HourValidator::new);
+		factories.put(Minute.class.getName(), MinuteValidator::new);
+		factories.put(Second.class.getName(), SecondValidator::new);
+		factories.put(Millisecond.class.getName(), MillisecondValidator::new);
 
-		validators.put(Letter.class.getName(), new LetterValidator(this.locale));
-		validators.put(LetterAlphabet.class.getName(), new LetterAlphabetValidator(this.locale));
+		factories.put(Letter.class.getName(), LetterValidator::new);
+		factories.put(LetterAlphabet.class.getName(), LetterAlphabetValidator::new);
 
-		validators.put(Digit.class.getName(), new DigitValidator(this.locale));
-		validators.put(DigitSystem.class.getName(), new DigitSystemValidator(this.locale));
+		factories.put(Digit.class.getName(), DigitValidator::new);
+		factories.put(DigitSystem.class.getName(), DigitSystemValidator::new);
 
-		validators.put(InetAddress.class.getName(), new InetAddressValidator(this.locale));
-		validators.put(MacAddress.class.getName(), new MacAddressValidator(this.locale));
-		validators.put(EmailAddress.class.getName(), new EmailAddressValidator(this.locale));
+		factories.put(InetAddress.class.getName(), InetAddressValidator::new);
+		factories.put(MacAddress.class.getName(), MacAddressValidator::new);
+		factories.put(EmailAddress.class.getName(), EmailAddressValidator::new);
 
-		validators.put(RgbNumeric.class.getName(), new RgbNumericValidator(this.locale));
-		validators.put(RgbHex.class.getName(), new RgbHexValidator(this.locale));
+		factories.put(RgbNumeric.class.getName(), RgbNumericValidator::new);
+		factories.put(RgbHex.class.getName(), RgbHexValidator::new);
 
-		validators.put(Valid.class.getName(), new ValidValidator(this.locale));
-		validators.put(Valid.ManyValid.class.getName(), new ValidValidator(this.locale));
+		factories.put(Valid.class.getName(), ValidValidator::new);
+		factories.put(Valid.ManyValid.class.getName(), ValidValidator::new);
 
-		validators.put(Exist.class.getName(), new ExistValidator(this.locale));
-		validators.put(Exist.ManyExist.class.getName(), new ExistValidator(this.locale));
+		factories.put(Exist.class.getName(), ExistValidator::new);
+		factories.put(Exist.ManyExist.class.getName(), ExistValidator::new);
 
-		validators.put(CountryCodeAlpha2.class.getName(), new CountryCodeAlpha2Validator(this.locale));
-		validators.put(CountryCodeAlpha3.class.getName(), new CountryCodeAlpha3Validator(this.locale));
-		validators.put(CountryCodeNumeric3.class.getName(), new CountryCodeNumeric3Validator(this.locale));
+		factories.put(CountryCodeAlpha2.class.getName(), CountryCodeAlpha2Validator::new);
+		factories.put(CountryCodeAlpha3.class.getName(), CountryCodeAlpha3Validator::new);
+		factories.put(CountryCodeNumeric3.class.getName(), CountryCodeNumeric3Validator::new);
 
-		return validators;
+		return Collections.unmodifiableMap(factories);
 	}
 }
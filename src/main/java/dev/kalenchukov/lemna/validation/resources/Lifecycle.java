@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.resources;
+
+/**
+ * Перечисление жизненных циклов экземпляров классов с собственной реализацией проверки.
+ *
+ * @author Алексей Каленчуков
+ */
+public enum Lifecycle
+{
+	/**
+	 * Один экземпляр на всё приложение.
+	 */
+	SINGLETON,
+
+	/**
+	 * Один экземпляр на механизм проверки.
+	 */
+	ENGINE,
+
+	/**
+	 * Новый экземпляр при каждой проверке.
+	 */
+	CALL
+}
@@ -18,61 +18,59 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Класс абстрактного проверяющего.
  *
  * @author Алексей Каленчуков
  */
-public abstract class AbstractValidator implements Validator
+public abstract class AbstractValidator implements Validator, Cloneable
 {
 	/**
-	 * Локализация.
+	 * Названия параметров нарушения с названием поля класса.
 	 */
 	@NotNull
-	protected Locale locale = new Locale("ru", "RU");
+	protected static final String @NotNull [] FIELD_PARAMS = {"FIELD"};
 
 	/**
-	 * Локализованные тексты логирования.
+	 * Названия параметров нарушения с названием поля класса и границами диапазона.
 	 */
 	@NotNull
-	protected ResourceBundle localeLogs = ResourceBundle.getBundle(
-		"lemna/validation/localizations/logs",
-		this.locale
-	);
+	protected static final String @NotNull [] RANGE_PARAMS = {"FIELD", "MIN", "MAX"};
 
 	/**
-	 * Локализованные тексты нарушений.
+	 * Локализация.
 	 */
 	@NotNull
-	protected ResourceBundle localeViolations = ResourceBundle.getBundle(
-		"lemna/validation/localizations/violations",
-		this.locale
-	);
+	protected final Locale locale;
 
 	/**
-	 * Локализованные тексты исключений.
+	 * Каталог локализованных текстов.
 	 */
 	@NotNull
-	protected ResourceBundle localeExceptions = ResourceBundle.getBundle(
-		"lemna/validation/localizations/exceptions",
-		this.locale
-	);
+	protected final MessageCatalog messageCatalog;
 
 	/**
-	 * Сообщение нарушения.
+	 * Поле класса, к которому привязан проверяющий.
 	 */
-	@NotNull
-	protected String message = "";
+	@Nullable
+	private Field field;
 
 	/**
-	 * Параметры нарушения.
+	 * Ограничение поля класса, к которому привязан проверяющий.
 	 */
-	@NotNull
-	protected Map<@NotNull String, @NotNull String> params = new HashMap<>();
+	@Nullable
+	private Annotation constraint;
 
 	/**
 	 * Конструктор для {@code AbstractValidator}.
@@ -84,76 +82,166 @@ public abstract class AbstractValidator implements Validator
 	{
 		Objects.requireNonNull(locale);
 
-		if (!this.locale.equals(locale))
-		{
-			this.locale = locale;
-
-			this.localeLogs = ResourceBundle.getBundle(
-				"lemna/validation/localizations/logs",
-				this.locale
-			);
-
-			this.localeViolations = ResourceBundle.getBundle(
-				"lemna/validation/localizations/violations",
-				this.locale
-			);
-		}
+		this.locale = locale;
+		this.messageCatalog = MessageCatalog.getInstance(locale);
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Возвращает копию данного проверяющего, хранящую {@code constraint}.
 	 *
+	 * @param field {@inheritDoc}
+	 * @param constraint {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
 	@NotNull
 	@Override
-	public Map<@NotNull String, @NotNull String> getParams()
+	public Validator bind(@NotNull final Field field, @NotNull final Annotation constraint)
 	{
-		return this.params;
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		AbstractValidator validator;
+
+		try
+		{
+			validator = (AbstractValidator) super.clone();
+		}
+		catch (CloneNotSupportedException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+
+		validator.field = field;
+		validator.constraint = constraint;
+
+		return validator;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Определяет, привязан ли проверяющий к полю класса.
 	 *
-	 * @param key {@inheritDoc}
-	 * @param value {@inheritDoc}
-	 * @return {@inheritDoc}
-	 * @throws NullPointerException если в качестве {@code key} передан {@code null}.
-	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @param field поле класса.
+	 * @return {@code true}, если проверяющий привязан к {@code field}, иначе {@code false}.
 	 */
-	@Override
-	public void setParam(@NotNull final String key, @NotNull final String value)
+	protected final boolean isBound(@NotNull final Field field)
+	{
+		return field == this.field;
+	}
+
+	/**
+	 * Возвращает ограничение поля класса.
+	 * <p>
+	 * Для поля класса, к которому привязан проверяющий, возвращается привязанное ограничение.
+	 *
+	 * @param field поле класса.
+	 * @param type тип ограничения.
+	 * @param <A> тип ограничения.
+	 * @return ограничение, или {@code null} если {@code field} не имеет ограничения {@code type}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	@Nullable
+	protected final <A extends Annotation> A getConstraint(@NotNull final Field field, @NotNull final Class<A> type)
 	{
-		Objects.requireNonNull(key);
-		Objects.requireNonNull(value);
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(type);
 
-		this.params.put(key, value);
+		if (field == this.field && type.isInstance(this.constraint)) {
+			return type.cast(this.constraint);
+		}
+
+		return field.getDeclaredAnnotation(type);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Возвращает сообщение нарушения.
 	 *
-	 * @return {@inheritDoc}
+	 * @param message сообщение нарушения из ограничения.
+	 * @param violationCode код нарушения.
+	 * @return сообщение нарушения.
+	 * @throws NullPointerException если в качестве {@code message} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code violationCode} передан {@code null}.
 	 */
 	@NotNull
-	@Override
-	public String getMessage()
+	protected String formatMessage(@NotNull final String message, @NotNull final String violationCode)
 	{
-		return this.message;
+		Objects.requireNonNull(message);
+		Objects.requireNonNull(violationCode);
+
+		return MessageTemplate.of(message).render(
+			this.messageCatalog.getViolation(violationCode)
+		);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Возвращает способ формирования сообщения о нарушении.
+	 * Сообщение форматируется только при обращении к нему.
 	 *
-	 * @param message {@inheritDoc}
-	 * @return {@inheritDoc}
-	 * @throws NullPointerException если в качестве {@code message} передан {@code null}.
+	 * @param message сообщение о нарушении.
+	 * @param violationCode код нарушения.
+	 * @return способ формирования сообщения о нарушении.
+	 * @see #formatMessage(String, String)
 	 */
-	@Override
-	public void setMessage(@NotNull final String message)
+	@NotNull
+	protected Supplier<@NotNull String> lazyMessage(@NotNull final String message, @NotNull final String violationCode)
 	{
 		Objects.requireNonNull(message);
+		Objects.requireNonNull(violationCode);
+
+		return () -> this.formatMessage(message, violationCode);
+	}
+
+	/**
+	 * Компилирует быструю проверку диапазона значения целочисленного поля класса.
+	 *
+	 * @param field поле класса.
+	 * @param types поддерживаемые типы поля класса.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @return скомпилированную проверку, или {@code null} если тип {@code field} не входит в {@code types}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code types} передан {@code null}.
+	 */
+	@Nullable
+	protected static Predicate<@Nullable Object> compileRange(@NotNull final Field field,
+															  @NotNull final Set<@NotNull Class<?>> types,
+															  final long min,
+															  final long max)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(types);
+
+		if (!types.contains(AbstractValidator.wrap(field.getType()))) {
+			return null;
+		}
+
+		return value -> {
+			if (value == null) {
+				return true;
+			}
+
+			long number = ((java.lang.Number) value).longValue();
+
+			return number >= min && number <= max;
+		};
+	}
+
+	/**
+	 * Возвращает класс-обёртку для примитивного типа.
+	 *
+	 * @param type тип.
+	 * @return класс-обёртку, или {@code type} если тип не примитивный.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	@NotNull
+	protected static Class<?> wrap(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
 
-		this.message = message;
+		return MethodType.methodType(type).wrap().returnType();
 	}
 }
@@ -18,11 +18,10 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.CountryCodeAlpha2;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import dev.kalenchukov.string.regexp.StringRegexp;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -64,54 +63,72 @@ public final class CountryCodeAlpha2Validator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		CountryCodeAlpha2 constraint = field.getDeclaredAnnotation(CountryCodeAlpha2.class);
+		CountryCodeAlpha2 constraint = this.getConstraint(field, CountryCodeAlpha2.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				FIELD_PARAMS,
+				field.getName()
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		CountryCodeAlpha2 constraint = this.getConstraint(field, CountryCodeAlpha2.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final CountryCodeAlpha2 constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final CountryCodeAlpha2 constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -122,16 +139,17 @@ public final class CountryCodeAlpha2Validator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidString(@NotNull final CountryCodeAlpha2 constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final CountryCodeAlpha2 constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -140,26 +158,20 @@ public final class CountryCodeAlpha2Validator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidAbstract(@NotNull final CountryCodeAlpha2 constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final CountryCodeAlpha2 constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 		
-		if (!StringRegexp.isCountryCodeAlpha2(value))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90031")
-			));
-
-			return false;
+		if (!StringRegexp.isCountryCodeAlpha2(value)) {
+			return "90031";
 		}
 
-		return true;
+		return null;
 	}
 }
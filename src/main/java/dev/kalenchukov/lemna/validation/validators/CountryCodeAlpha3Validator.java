@@ -18,11 +18,10 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.CountryCodeAlpha3;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import dev.kalenchukov.string.regexp.StringRegexp;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -62,52 +61,70 @@ public final class CountryCodeAlpha3Validator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		CountryCodeAlpha3 constraint = field.getDeclaredAnnotation(CountryCodeAlpha3.class);
+		CountryCodeAlpha3 constraint = this.getConstraint(field, CountryCodeAlpha3.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				FIELD_PARAMS,
+				field.getName()
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		CountryCodeAlpha3 constraint = this.getConstraint(field, CountryCodeAlpha3.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final CountryCodeAlpha3 constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final CountryCodeAlpha3 constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -118,14 +135,15 @@ public final class CountryCodeAlpha3Validator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidString(@NotNull final CountryCodeAlpha3 constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final CountryCodeAlpha3 constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -134,24 +152,18 @@ public final class CountryCodeAlpha3Validator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final CountryCodeAlpha3 constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final CountryCodeAlpha3 constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 		
-		if (!StringRegexp.isCountryCodeAlpha3(value))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90031")
-			));
-
-			return false;
+		if (!StringRegexp.isCountryCodeAlpha3(value)) {
+			return "90031";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.validators;
+
+import dev.kalenchukov.lemna.validation.InstanceRegistry;
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс собственной реализации проверки.
+ * <p>
+ * Метод проверки разрешается один раз для каждого типа поля класса
+ * и вызывается через {@link MethodHandle} вместо рефлексии.
+ * Экземпляры создаются в соответствии с жизненным циклом {@link Lifecycle}.
+ *
+ * @author Алексей Каленчуков
+ */
+final class CustomImplementation
+{
+	/**
+	 * Тип метода проверки.
+	 */
+	@NotNull
+	private static final MethodType CHECK_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class);
+
+	/**
+	 * Класс с собственной реализацией проверки.
+	 */
+	@NotNull
+	private final Class<?> type;
+
+	/**
+	 * Название метода проверки.
+	 */
+	@NotNull
+	private final String methodName;
+
+	/**
+	 * Методы проверки по типам полей класса.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull Class<?>, @NotNull Optional<MethodHandle>> methods;
+
+	/**
+	 * Конструктор класса с собственной реализацией проверки.
+	 */
+	@Nullable
+	private volatile MethodHandle constructor;
+
+	/**
+	 * Экземпляр с жизненным циклом {@link Lifecycle#SINGLETON}.
+	 */
+	@Nullable
+	private volatile Object singleton;
+
+	/**
+	 * Конструктор для {@code CustomImplementation}.
+	 *
+	 * @param type класс с собственной реализацией проверки.
+	 * @param methodName название метода проверки.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code methodName} передан {@code null}.
+	 */
+	private CustomImplementation(@NotNull final Class<?> type, @NotNull final String methodName)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(methodName);
+
+		this.type = type;
+		this.methodName = methodName;
+		this.methods = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Возвращает кэш собственных реализаций по классам.
+	 *
+	 * @param methodName название метода проверки.
+	 * @return кэш собственных реализаций.
+	 * @throws NullPointerException если в качестве {@code methodName} передан {@code null}.
+	 */
+	@NotNull
+	static ClassValue<@NotNull CustomImplementation> cache(@NotNull final String methodName)
+	{
+		Objects.requireNonNull(methodName);
+
+		return new ClassValue<>()
+		{
+			@NotNull
+			@Override
+			protected CustomImplementation computeValue(@NotNull final Class<?> type)
+			{
+				return new CustomImplementation(type, methodName);
+			}
+		};
+	}
+
+	/**
+	 * Возвращает метод проверки для типа поля класса.
+	 *
+	 * @param fieldType тип поля класса.
+	 * @return метод типа {@code (Object, Object) boolean}, или {@code null} если метода для {@code fieldType} нет.
+	 * @throws NullPointerException если в качестве {@code fieldType} передан {@code null}.
+	 * @throws IllegalStateException если метод проверки недоступен.
+	 */
+	@Nullable
+	MethodHandle getMethod(@NotNull final Class<?> fieldType)
+	{
+		Objects.requireNonNull(fieldType);
+
+		Optional<MethodHandle> method = this.methods.get(fieldType);
+
+		if (method == null)
+		{
+			method = this.findMethod(fieldType);
+			this.methods.putIfAbsent(fieldType, method);
+		}
+
+		return method.orElse(null);
+	}
+
+	/**
+	 * Возвращает экземпляр класса с собственной реализацией проверки.
+	 *
+	 * @param lifecycle жизненный цикл экземпляра.
+	 * @param instanceRegistry реестр экземпляров.
+	 * @return экземпляр класса.
+	 * @throws NullPointerException если в качестве {@code lifecycle} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 * @throws IllegalStateException если экземпляр невозможно создать.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	Object getInstance(@NotNull final Lifecycle lifecycle, @NotNull final InstanceRegistry instanceRegistry)
+	{
+		Objects.requireNonNull(lifecycle);
+		Objects.requireNonNull(instanceRegistry);
+
+		Object instance = instanceRegistry.getRegistered(this.type);
+
+		if (instance != null) {
+			return instance;
+		}
+
+		return switch (lifecycle)
+		{
+			case SINGLETON -> this.getSingleton();
+			case ENGINE -> instanceRegistry.getInstance((Class<Object>) this.type, this::newInstance);
+			case CALL -> this.newInstance();
+		};
+	}
+
+	/**
+	 * Возвращает экземпляр с жизненным циклом {@link Lifecycle#SINGLETON}.
+	 *
+	 * @return экземпляр класса.
+	 * @throws IllegalStateException если экземпляр невозможно создать.
+	 */
+	@NotNull
+	private Object getSingleton()
+	{
+		Object instance = this.singleton;
+
+		if (instance == null)
+		{
+			synchronized (this)
+			{
+				instance = this.singleton;
+
+				if (instance == null)
+				{
+					instance = this.newInstance();
+					this.singleton = instance;
+				}
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Создаёт экземпляр класса с собственной реализацией проверки.
+	 *
+	 * @return экземпляр класса.
+	 * @throws IllegalStateException если экземпляр невозможно создать.
+	 */
+	@NotNull
+	private Object newInstance()
+	{
+		MethodHandle constructor = this.constructor;
+
+		try
+		{
+			if (constructor == null)
+			{
+				CustomImplementation.class.getModule().addReads(this.type.getModule());
+
+				constructor = MethodHandles.lookup()
+					.unreflectConstructor(this.type.getConstructor())
+					.asType(MethodType.methodType(Object.class));
+
+				this.constructor = constructor;
+			}
+
+			return (Object) constructor.invokeExact();
+		}
+		catch (Throwable exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Разрешает метод проверки для типа поля класса.
+	 *
+	 * @param fieldType тип поля класса.
+	 * @return метод типа {@code (Object, Object) boolean}, или пустое значение если метода для {@code fieldType} нет.
+	 * @throws IllegalStateException если метод проверки недоступен.
+	 */
+	@NotNull
+	private Optional<MethodHandle> findMethod(@NotNull final Class<?> fieldType)
+	{
+		try
+		{
+			CustomImplementation.class.getModule().addReads(this.type.getModule());
+
+			return Optional.of(
+				MethodHandles.lookup()
+					.unreflect(this.type.getMethod(this.methodName, fieldType))
+					.asType(CHECK_TYPE)
+			);
+		}
+		catch (NoSuchMethodException exception)
+		{
+			return Optional.empty();
+		}
+		catch (IllegalAccessException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+}
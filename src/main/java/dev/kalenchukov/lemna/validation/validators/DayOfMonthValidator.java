@@ -18,17 +18,18 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.DayOfMonth;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Класс проверяющего для ограничения {@link DayOfMonth}.
@@ -70,24 +71,149 @@ public final class DayOfMonthValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		DayOfMonth constraint = field.getDeclaredAnnotation(DayOfMonth.class);
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		return this.getViolation(field, constraint, this.check(field, constraint, value));
+	}
 
-		if (!valid)
-		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(MIN_DAY_OF_MONTH));
-			this.setParam("MAX", String.valueOf(MAX_DAY_OF_MONTH));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
-			);
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		DayOfMonth constraint = this.getConstraint(field, DayOfMonth.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		return AbstractValidator.compileRange(
+			field,
+			Set.of(Byte.class, Short.class, Integer.class, Long.class),
+			MIN_DAY_OF_MONTH,
+			MAX_DAY_OF_MONTH
+		);
+	}
+
+	/**
+	 * Возвращает нарушение по коду нарушения.
+	 *
+	 * @param field поле класса.
+	 * @param constraint проверяемое ограничение.
+	 * @param violationCode код нарушения.
+	 * @return нарушение, или {@code null} если {@code violationCode} равен {@code null}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
+	 */
+	@Nullable
+	private Violating getViolation(@NotNull final Field field,
+								   @NotNull final DayOfMonth constraint,
+								   @Nullable final String violationCode)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		if (violationCode == null) {
+			return null;
 		}
 
-		return null;
+		return new CompactViolation(
+			field.getName(),
+			violationCode,
+			this.lazyMessage(constraint.message(), violationCode),
+			RANGE_PARAMS,
+			field.getName(),
+			String.valueOf(MIN_DAY_OF_MONTH),
+			String.valueOf(MAX_DAY_OF_MONTH)
+		);
 	}
 
 	/**
@@ -96,40 +222,41 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final DayOfMonth constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final DayOfMonth constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Byte.class))
 		{
-			return this.isValidByte(constraint, (Byte) value);
+			return this.checkByte(constraint, (Byte) value);
 		}
 		else if (value.getClass().equals(Long.class))
 		{
-			return this.isValidLong(constraint, (Long) value);
+			return this.checkLong(constraint, (Long) value);
 		}
 		else if (value.getClass().equals(Integer.class))
 		{
-			return this.isValidInteger(constraint, (Integer) value);
+			return this.checkInteger(constraint, (Integer) value);
 		}
 		else if (value.getClass().equals(Short.class))
 		{
-			return this.isValidShort(constraint, (Short) value);
+			return this.checkShort(constraint, (Short) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -140,13 +267,14 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidByte(@NotNull final DayOfMonth constraint, final byte value)
+	@Nullable
+	private String checkByte(@NotNull final DayOfMonth constraint, final byte value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -154,13 +282,14 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidShort(@NotNull final DayOfMonth constraint, final short value)
+	@Nullable
+	private String checkShort(@NotNull final DayOfMonth constraint, final short value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -168,13 +297,14 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidInteger(@NotNull final DayOfMonth constraint, final int value)
+	@Nullable
+	private String checkInteger(@NotNull final DayOfMonth constraint, final int value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -182,13 +312,14 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidLong(@NotNull final DayOfMonth constraint, final long value)
+	@Nullable
+	private String checkLong(@NotNull final DayOfMonth constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -197,34 +328,21 @@ public final class DayOfMonthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final DayOfMonth constraint, final long value)
+	@Nullable
+	private String checkAbstract(@NotNull final DayOfMonth constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
 
-		if (value < MIN_DAY_OF_MONTH)
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90008")
-			));
-
-			return false;
+		if (value < MIN_DAY_OF_MONTH) {
+			return "90008";
 		}
 
-		if (value > MAX_DAY_OF_MONTH)
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90009")
-			));
-
-			return false;
+		if (value > MAX_DAY_OF_MONTH) {
+			return "90009";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -18,12 +18,11 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.DigitSystem;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.numeralsystem.Numerable;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -62,58 +61,76 @@ public final class DigitSystemValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		DigitSystem constraint = field.getDeclaredAnnotation(DigitSystem.class);
+		DigitSystem constraint = this.getConstraint(field, DigitSystem.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				FIELD_PARAMS,
+				field.getName()
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		DigitSystem constraint = this.getConstraint(field, DigitSystem.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final DigitSystem constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final DigitSystem constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Character.class))
 		{
-			return this.isValidCharacter(constraint, (Character) value);
+			return this.checkCharacter(constraint, (Character) value);
 		}
 		else if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -124,14 +141,15 @@ public final class DigitSystemValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidCharacter(@NotNull final DigitSystem constraint, final char value)
+	@Nullable
+	private String checkCharacter(@NotNull final DigitSystem constraint, final char value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -139,27 +157,30 @@ public final class DigitSystemValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidString(@NotNull final DigitSystem constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final DigitSystem constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
 		if (value.isEmpty()) {
-			return false;
+			return "90016";
 		}
 
 		for (char character : value.toCharArray())
 		{
-			if (!this.isValidAbstract(constraint, character)) {
-				return false;
+			String violationCode = this.checkAbstract(constraint, character);
+
+			if (violationCode != null) {
+				return violationCode;
 			}
 		}
 
-		return true;
+		return null;
 	}
 
 	/**
@@ -168,23 +189,17 @@ public final class DigitSystemValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final DigitSystem constraint, final char value)
+	@Nullable
+	private String checkAbstract(@NotNull final DigitSystem constraint, final char value)
 	{
 		Numerable numeralSystem = constraint.numeralSystem().getNumeralSystem();
 
-		if (!numeralSystem.contains(value))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90016")
-			));
-
-			return false;
+		if (!numeralSystem.contains(value)) {
+			return "90016";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -18,11 +18,10 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.Digit;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,24 +58,129 @@ public final class DigitValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Digit constraint = field.getDeclaredAnnotation(Digit.class);
+		Digit constraint = this.getConstraint(field, Digit.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		return this.getViolation(field, constraint, this.check(field, constraint, value));
+	}
 
-		if (!valid)
-		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
-			);
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Digit constraint = this.getConstraint(field, Digit.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		Digit constraint = this.getConstraint(field, Digit.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		Digit constraint = this.getConstraint(field, Digit.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		Digit constraint = this.getConstraint(field, Digit.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		Digit constraint = this.getConstraint(field, Digit.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * Возвращает нарушение по коду нарушения.
+	 *
+	 * @param field поле класса.
+	 * @param constraint проверяемое ограничение.
+	 * @param violationCode код нарушения.
+	 * @return нарушение, или {@code null} если {@code violationCode} равен {@code null}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
+	 */
+	@Nullable
+	private Violating getViolation(@NotNull final Field field,
+								   @NotNull final Digit constraint,
+								   @Nullable final String violationCode)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		if (violationCode == null) {
+			return null;
 		}
 
-		return null;
+		return new CompactViolation(
+			field.getName(),
+			violationCode,
+			this.lazyMessage(constraint.message(), violationCode),
+			RANGE_PARAMS,
+			field.getName(),
+			String.valueOf(constraint.min()),
+			String.valueOf(constraint.max())
+		);
 	}
 
 	/**
@@ -85,40 +189,41 @@ public final class DigitValidator extends AbstractValidator
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Digit constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Digit constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Integer.class))
 		{
-			return this.isValidInteger(constraint, (Integer) value);
+			return this.checkInteger(constraint, (Integer) value);
 		}
 		else if (value.getClass().equals(Long.class))
 		{
-			return this.isValidLong(constraint, (Long) value);
+			return this.checkLong(constraint, (Long) value);
 		}
 		else if (value.getClass().equals(Short.class))
 		{
-			return this.isValidShort(constraint, (Short) value);
+			return this.checkShort(constraint, (Short) value);
 		}
 		else if (value.getClass().equals(Byte.class))
 		{
-			return this.isValidByte(constraint, (Byte) value);
+			return this.checkByte(constraint, (Byte) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -129,13 +234,14 @@ public final class DigitValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidInteger(@NotNull final Digit constraint, final int value)
+	@Nullable
+	private String checkInteger(@NotNull final Digit constraint, final int value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -143,13 +249,14 @@ public final class DigitValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidLong(@NotNull final Digit constraint, final long value)
+	@Nullable
+	private String checkLong(@NotNull final Digit constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -157,13 +264,14 @@ public final class DigitValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidShort(@NotNull final Digit constraint, final short value)
+	@Nullable
+	private String checkShort(@NotNull final Digit constraint, final short value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -171,50 +279,58 @@ public final class DigitValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidByte(@NotNull final Digit constraint, final byte value)
+	@Nullable
+	private String checkByte(@NotNull final Digit constraint, final byte value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
 	 * Проверка значения поля класса абстрактного типа.
-	 * В качестве абстракции используется тип {@code String}.
+	 * В качестве абстракции используется тип {@code Long}.
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final Digit constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final Digit constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
-		Objects.requireNonNull(value);
 
-		if (value.length() < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90026")
-			));
+		int length = DigitValidator.getLength(value);
 
-			return false;
+		if (length < constraint.min()) {
+			return "90026";
 		}
 
-		if (value.length() > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90027")
-			));
+		if (length > constraint.max()) {
+			return "90027";
+		}
+
+		return null;
+	}
 
-			return false;
+	/**
+	 * Возвращает количество символов в десятичной записи числа, включая знак.
+	 * Совпадает с длиной {@code String.valueOf(value)}, но не создаёт строку.
+	 *
+	 * @param value число.
+	 * @return количество символов.
+	 */
+	private static int getLength(final long value)
+	{
+		int length = value < 0 ? 2 : 1;
+
+		for (long rest = value / 10; rest != 0; rest /= 10)
+		{
+			length++;
 		}
 
-		return true;
+		return length;
 	}
 }
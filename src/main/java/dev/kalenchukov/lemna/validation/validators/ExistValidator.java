@@ -18,20 +18,27 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.ExistenceCache;
+import dev.kalenchukov.lemna.validation.InstanceRegistry;
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Exist;
 import dev.kalenchukov.lemna.validation.exceptions.InvalidExistenceClassException;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.lemna.validation.interfaces.AsyncExistable;
 import dev.kalenchukov.lemna.validation.interfaces.Existable;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * Класс проверяющего для ограничения {@link Exist}.
@@ -40,13 +47,112 @@ import java.util.Objects;
  */
 public final class ExistValidator extends AbstractValidator
 {
+	/**
+	 * Собственные реализации проверки по классам.
+	 */
+	@NotNull
+	static final ClassValue<@NotNull CustomImplementation> IMPLEMENTATIONS = CustomImplementation.cache("exist");
+
+	/**
+	 * Реестр экземпляров классов с собственной реализацией проверки.
+	 */
+	@NotNull
+	private final InstanceRegistry instanceRegistry;
+
+	/**
+	 * Поставщик кэша результатов проверки существования.
+	 */
+	@NotNull
+	private final Supplier<@Nullable ExistenceCache> existenceCache;
+
+	/**
+	 * Ограничения поля класса, к которому привязан проверяющий.
+	 */
+	@NotNull
+	private Exist @NotNull [] constraints = new Exist[0];
+
 	/**
 	 * Конструктор для {@code ExistValidator}.
+	 *
 	 * @param locale локализация.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
 	 */
 	public ExistValidator(@NotNull final Locale locale)
+	{
+		this(locale, new InstanceRegistry());
+	}
+
+	/**
+	 * Конструктор для {@code ExistValidator}.
+	 *
+	 * @param locale локализация.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 */
+	public ExistValidator(@NotNull final Locale locale, @NotNull final InstanceRegistry instanceRegistry)
+	{
+		this(locale, instanceRegistry, () -> null);
+	}
+
+	/**
+	 * Конструктор для {@code ExistValidator}.
+	 *
+	 * @param locale локализация.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @param existenceCache поставщик кэша результатов проверки существования.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code existenceCache} передан {@code null}.
+	 */
+	public ExistValidator(@NotNull final Locale locale,
+						  @NotNull final InstanceRegistry instanceRegistry,
+						  @NotNull final Supplier<@Nullable ExistenceCache> existenceCache)
 	{
 		super(Objects.requireNonNull(locale));
+
+		this.instanceRegistry = Objects.requireNonNull(instanceRegistry);
+		this.existenceCache = Objects.requireNonNull(existenceCache);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param instanceRegistry {@inheritDoc}
+	 * @param existenceCache {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Validator bind(@NotNull final InstanceRegistry instanceRegistry,
+						  @NotNull final Supplier<@Nullable ExistenceCache> existenceCache)
+	{
+		Objects.requireNonNull(instanceRegistry);
+		Objects.requireNonNull(existenceCache);
+
+		if (instanceRegistry == this.instanceRegistry && existenceCache == this.existenceCache) {
+			return this;
+		}
+
+		return new ExistValidator(this.locale, instanceRegistry, existenceCache);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param constraint {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Validator bind(@NotNull final Field field, @NotNull final Annotation constraint)
+	{
+		ExistValidator validator = (ExistValidator) super.bind(field, constraint);
+		validator.constraints = field.getDeclaredAnnotationsByType(Exist.class);
+
+		return validator;
 	}
 
 	/**
@@ -62,85 +168,375 @@ public final class ExistValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Exist[] constraints = field.getDeclaredAnnotationsByType(Exist.class);
+		Exist[] constraints = this.getConstraints(field);
 
 		for (Exist constraint : constraints)
 		{
-			boolean valid = this.isValid(field, constraint, value);
+			String violationCode = this.check(field, constraint, value);
 
-			if (!valid)
-			{
-				this.setParam("FIELD", field.getName());
-
-				return new Violation(
-					field.getName(),
-					this.getMessage(),
-					this.getParams()
-				);
+			if (violationCode != null) {
+				return this.violation(field, constraint, violationCode);
 			}
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Существование значения проверяется без блокирования вызывающего потока,
+	 * если класс проверки существования реализует {@link AsyncExistable}.
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CompletionStage<@Nullable Violating> validAsync(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Exist[] constraints = this.getConstraints(field);
+		CompletionStage<Violating> result = CompletableFuture.completedFuture(null);
+
+		for (Exist constraint : constraints)
+		{
+			result = result.thenCompose(violation -> {
+				if (violation != null) {
+					return CompletableFuture.completedFuture(violation);
+				}
+
+				return this.checkAsync(field, constraint, value).thenApply(violationCode -> {
+					if (violationCode == null) {
+						return null;
+					}
+
+					return this.violation(field, constraint, violationCode);
+				});
+			});
+		}
+
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Exist[] constraints = this.getConstraints(field);
+
+		for (Exist constraint : constraints)
+		{
+			if (this.check(field, constraint, value) != null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Возвращает нарушение ограничения.
+	 *
+	 * @param field поле класса.
+	 * @param constraint нарушенное ограничение.
+	 * @param violationCode код нарушения.
+	 * @return нарушение.
+	 */
+	@NotNull
+	private Violating violation(@NotNull final Field field,
+								@NotNull final Exist constraint,
+								@NotNull final String violationCode)
+	{
+		return new CompactViolation(
+			field.getName(),
+			violationCode,
+			this.lazyMessage(constraint.message(), violationCode),
+			FIELD_PARAMS,
+			field.getName()
+		);
+	}
+
+	/**
+	 * Возвращает ограничения поля класса.
+	 * <p>
+	 * Для поля класса, к которому привязан проверяющий, возвращаются привязанные ограничения.
+	 *
+	 * @param field поле класса.
+	 * @return ограничения поля класса.
+	 */
+	@NotNull
+	private Exist @NotNull [] getConstraints(@NotNull final Field field)
+	{
+		if (this.isBound(field)) {
+			return this.constraints;
+		}
+
+		return field.getDeclaredAnnotationsByType(Exist.class);
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 * @throws InvalidExistenceClassException если класс проверки существования некорректный.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Exist constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Exist constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		Class<? extends Existable<?>> existence = constraint.existence();
+		CustomImplementation implementation = IMPLEMENTATIONS.get(existence);
+		MethodHandle method = this.getMethod(field, existence, implementation);
+		Boolean known = this.getKnown(constraint, value);
+
+		if (known != null) {
+			return known ? null : "90004";
+		}
+
+		Object instance = this.getInstance(constraint, implementation);
+		boolean exists;
 
 		try
 		{
-			Method method = existence.getMethod("exist", field.getType());
+			exists = (boolean) method.invokeExact(instance, value);
+		}
+		catch (Throwable exception)
+		{
+			throw new InvalidExistenceClassException(String.format(
+				this.messageCatalog.getException("20002"),
+				existence.getName()
+			), exception);
+		}
+
+		this.putKnown(constraint, value, exists);
+
+		if (!exists) {
+			return "90004";
+		}
+
+		return null;
+	}
 
-			boolean exists = (boolean) method.invoke(
-				existence.getConstructor().newInstance(),
-				value
-			);
+	/**
+	 * Проверяет корректность значения поля класса асинхронно.
+	 * <p>
+	 * Если класс проверки существования не реализует {@link AsyncExistable},
+	 * значение проверяется в вызывающем потоке.
+	 *
+	 * @param field поле класса.
+	 * @param constraint проверяемое ограничение.
+	 * @param value значение поля класса.
+	 * @return стадию, завершающуюся кодом нарушения, или {@code null} если {@code value} корректно в {@code field}.
+	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
+	 * @throws InvalidExistenceClassException если класс проверки существования некорректный.
+	 */
+	@NotNull
+	private CompletionStage<@Nullable String> checkAsync(@NotNull final Field field,
+														 @NotNull final Exist constraint,
+														 @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
 
-			if (!exists)
+		Class<? extends Existable<?>> existence = constraint.existence();
+
+		if (value == null || !AsyncExistable.class.isAssignableFrom(existence)) {
+			return CompletableFuture.completedFuture(this.check(field, constraint, value));
+		}
+
+		CustomImplementation implementation = IMPLEMENTATIONS.get(existence);
+		this.getMethod(field, existence, implementation);
+		Boolean known = this.getKnown(constraint, value);
+
+		if (known != null) {
+			return CompletableFuture.completedFuture(known ? null : "90004");
+		}
+
+		@SuppressWarnings("unchecked")
+		AsyncExistable<Object> instance = (AsyncExistable<Object>) this.getInstance(constraint, implementation);
+		CompletionStage<Boolean> stage;
+
+		try
+		{
+			stage = instance.existAsync(value);
+		}
+		catch (Throwable exception)
+		{
+			throw new InvalidExistenceClassException(String.format(
+				this.messageCatalog.getException("20002"),
+				existence.getName()
+			), exception);
+		}
+
+		return stage.handle((exists, exception) -> {
+			if (exception != null)
 			{
-				this.setMessage(StringFormat.format(
-					constraint.message(),
-					"DEFAULT_MESSAGE",
-					this.localeViolations.getString("90004")
+				Throwable cause = exception;
+
+				if (cause instanceof CompletionException && cause.getCause() != null) {
+					cause = cause.getCause();
+				}
+
+				throw new InvalidExistenceClassException(String.format(
+					this.messageCatalog.getException("20002"),
+					existence.getName()
+				), cause);
+			}
+
+			if (exists == null)
+			{
+				throw new InvalidExistenceClassException(String.format(
+					this.messageCatalog.getException("20002"),
+					existence.getName()
 				));
+			}
 
-				return false;
+			this.putKnown(constraint, value, exists);
+
+			if (!exists) {
+				return "90004";
 			}
+
+			return null;
+		});
+	}
+
+	/**
+	 * Возвращает метод проверки существования для типа поля класса.
+	 *
+	 * @param field поле класса.
+	 * @param existence класс проверки существования.
+	 * @param implementation собственная реализация проверки.
+	 * @return метод проверки существования.
+	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
+	 * @throws InvalidExistenceClassException если класс проверки существования некорректный.
+	 */
+	@NotNull
+	private MethodHandle getMethod(@NotNull final Field field,
+								   @NotNull final Class<? extends Existable<?>> existence,
+								   @NotNull final CustomImplementation implementation)
+	{
+		MethodHandle method;
+
+		try
+		{
+			method = implementation.getMethod(field.getType());
 		}
-		catch (NoSuchMethodException exception)
+		catch (IllegalStateException exception)
+		{
+			throw new InvalidExistenceClassException(String.format(
+				this.messageCatalog.getException("20002"),
+				existence.getName()
+			), exception);
+		}
+
+		if (method == null)
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20004"),
+				this.messageCatalog.getException("20004"),
 				existence.getName()
 			));
 		}
-		catch (Exception exception)
+
+		return method;
+	}
+
+	/**
+	 * Возвращает экземпляр класса проверки существования.
+	 *
+	 * @param constraint проверяемое ограничение.
+	 * @param implementation собственная реализация проверки.
+	 * @return экземпляр класса проверки существования.
+	 * @throws InvalidExistenceClassException если экземпляр класса проверки существования невозможно создать.
+	 */
+	@NotNull
+	private Object getInstance(@NotNull final Exist constraint, @NotNull final CustomImplementation implementation)
+	{
+		try
+		{
+			return implementation.getInstance(constraint.lifecycle(), this.instanceRegistry);
+		}
+		catch (IllegalStateException exception)
 		{
 			throw new InvalidExistenceClassException(String.format(
-				this.localeExceptions.getString("20002"),
-				existence.getName()
-			));
+				this.messageCatalog.getException("20002"),
+				constraint.existence().getName()
+			), exception);
 		}
+	}
 
-		return true;
+	/**
+	 * Возвращает известный результат проверки существования значения.
+	 * <p>
+	 * Результат берётся из пакетной проверки текущего потока, а затем из кэша результатов,
+	 * если кэширование не отключено для ограничения.
+	 *
+	 * @param constraint проверяемое ограничение.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} существует, {@code false}, если не существует,
+	 * или {@code null} если результат неизвестен.
+	 */
+	@Nullable
+	private Boolean getKnown(@NotNull final Exist constraint, @NotNull final Object value)
+	{
+		Class<? extends Existable<?>> existence = constraint.existence();
+		ExistenceBatch batch = ExistenceBatch.current();
+
+		if (batch != null)
+		{
+			Boolean resolved = batch.exists(constraint, value);
+
+			if (resolved != null) {
+				return resolved;
+			}
+		}
+
+		ExistenceCache cache = constraint.cached() ? this.existenceCache.get() : null;
+
+		if (cache == null) {
+			return null;
+		}
+
+		return cache.get(existence, value);
+	}
+
+	/**
+	 * Сохраняет результат проверки существования значения в кэше результатов,
+	 * если кэширование не отключено для ограничения.
+	 *
+	 * @param constraint проверенное ограничение.
+	 * @param value значение поля класса.
+	 * @param exists {@code true}, если {@code value} существует, иначе {@code false}.
+	 */
+	private void putKnown(@NotNull final Exist constraint, @NotNull final Object value, final boolean exists)
+	{
+		ExistenceCache cache = constraint.cached() ? this.existenceCache.get() : null;
+
+		if (cache != null) {
+			cache.put(constraint.existence(), value, exists);
+		}
 	}
 }
@@ -0,0 +1,389 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.validators;
+
+import dev.kalenchukov.lemna.validation.ExistenceCache;
+import dev.kalenchukov.lemna.validation.InstanceRegistry;
+import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.exceptions.InvalidExistenceClassException;
+import dev.kalenchukov.lemna.validation.interfaces.BatchExistable;
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Класс пакетной проверки существования для ограничения {@link Exist}.
+ * <p>
+ * Собирает различные значения полей множества объектов по классам {@link BatchExistable}
+ * и проверяет их одним вызовом {@link BatchExistable#existing(Collection)} для каждого класса.
+ * Ограничения с одним классом, но разным жизненным циклом или кэшированием, проверяются раздельно.
+ * Пока выполняется {@link #apply(Supplier)}, {@link ExistValidator} использует
+ * полученные результаты вместо вызова {@link BatchExistable#exist(Object)}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ExistenceBatch
+{
+	/**
+	 * Пакетная проверка текущего потока.
+	 */
+	@NotNull
+	private static final ThreadLocal<@Nullable ExistenceBatch> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Каталог локализованных текстов.
+	 */
+	@NotNull
+	private final MessageCatalog messageCatalog;
+
+	/**
+	 * Реестр экземпляров классов с собственной реализацией проверки.
+	 */
+	@NotNull
+	private final InstanceRegistry instanceRegistry;
+
+	/**
+	 * Кэш результатов проверки существования.
+	 */
+	@Nullable
+	private final ExistenceCache existenceCache;
+
+	/**
+	 * Проверяемые значения по ключам ограничений.
+	 */
+	@NotNull
+	private final Map<@NotNull Key, @NotNull Set<@NotNull Object>> values;
+
+	/**
+	 * Существующие значения по ключам ограничений.
+	 */
+	@NotNull
+	private final Map<@NotNull Key, @NotNull Set<?>> existing;
+
+	/**
+	 * Конструктор для {@code ExistenceBatch}.
+	 *
+	 * @param locale локализация.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @param existenceCache кэш результатов проверки существования, или {@code null} если кэширование не используется.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 */
+	public ExistenceBatch(@NotNull final Locale locale,
+						  @NotNull final InstanceRegistry instanceRegistry,
+						  @Nullable final ExistenceCache existenceCache)
+	{
+		Objects.requireNonNull(locale);
+		Objects.requireNonNull(instanceRegistry);
+
+		this.messageCatalog = MessageCatalog.getInstance(locale);
+		this.instanceRegistry = instanceRegistry;
+		this.existenceCache = existenceCache;
+		this.values = new HashMap<>();
+		this.existing = new HashMap<>();
+	}
+
+	/**
+	 * Определяет, проверяется ли существование значения поля класса пакетно.
+	 *
+	 * @param field поле класса.
+	 * @return {@code true}, если для {@code field} задано ограничение {@link Exist}
+	 * с классом {@link BatchExistable}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 */
+	public static boolean isBatch(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		for (Exist constraint : field.getDeclaredAnnotationsByType(Exist.class))
+		{
+			if (BatchExistable.class.isAssignableFrom(constraint.existence())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Добавляет значение поля класса в пакетную проверку.
+	 * <p>
+	 * Значения полей, тип которых не поддерживается классом проверки существования,
+	 * не добавляются и проверяются {@link ExistValidator} без пакетной проверки.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 */
+	public void add(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		if (value == null) {
+			return;
+		}
+
+		for (Exist constraint : field.getDeclaredAnnotationsByType(Exist.class))
+		{
+			Class<?> existence = constraint.existence();
+
+			if (!BatchExistable.class.isAssignableFrom(existence)) {
+				continue;
+			}
+
+			try
+			{
+				if (ExistValidator.IMPLEMENTATIONS.get(existence).getMethod(field.getType()) == null) {
+					continue;
+				}
+			}
+			catch (IllegalStateException exception)
+			{
+				continue;
+			}
+
+			this.values.computeIfAbsent(new Key(constraint), key -> new HashSet<>()).add(value);
+		}
+	}
+
+	/**
+	 * Проверяет существование собранных значений.
+	 * Для каждого класса проверки существования выполняется один вызов
+	 * {@link BatchExistable#existing(Collection)} для значений, результатов
+	 * для которых нет в {@link ExistenceCache}.
+	 *
+	 * @throws InvalidExistenceClassException если класс проверки существования некорректный.
+	 */
+	@SuppressWarnings("unchecked")
+	public void resolve()
+	{
+		for (Map.Entry<Key, Set<Object>> entry : this.values.entrySet())
+		{
+			Key key = entry.getKey();
+			Class<?> existence = key.existence;
+
+			if (this.existing.containsKey(key)) {
+				continue;
+			}
+
+			ExistenceCache cache = key.cached ? this.existenceCache : null;
+			Set<Object> existing = new HashSet<>();
+			Set<Object> missing = entry.getValue();
+
+			if (cache != null)
+			{
+				missing = new HashSet<>();
+
+				for (Object value : entry.getValue())
+				{
+					Boolean cached = cache.get(existence, value);
+
+					if (cached == null) {
+						missing.add(value);
+					} else if (cached) {
+						existing.add(value);
+					}
+				}
+			}
+
+			if (!missing.isEmpty())
+			{
+				Set<?> found;
+
+				try
+				{
+					BatchExistable<Object> instance = (BatchExistable<Object>) ExistValidator.IMPLEMENTATIONS
+						.get(existence)
+						.getInstance(key.lifecycle, this.instanceRegistry);
+
+					found = Objects.requireNonNull(instance.existing(Collections.unmodifiableSet(missing)));
+				}
+				catch (Throwable exception)
+				{
+					throw new InvalidExistenceClassException(String.format(
+						this.messageCatalog.getException("20002"),
+						existence.getName()
+					), exception);
+				}
+
+				for (Object value : missing)
+				{
+					boolean exists = found.contains(value);
+
+					if (exists) {
+						existing.add(value);
+					}
+
+					if (cache != null) {
+						cache.put(existence, value, exists);
+					}
+				}
+			}
+
+			this.existing.put(key, existing);
+		}
+	}
+
+	/**
+	 * Выполняет действие с использованием результатов пакетной проверки в текущем потоке.
+	 *
+	 * @param action действие.
+	 * @param <T> тип результата действия.
+	 * @return результат действия.
+	 * @throws NullPointerException если в качестве {@code action} передан {@code null}.
+	 */
+	public <T> T apply(@NotNull final Supplier<T> action)
+	{
+		Objects.requireNonNull(action);
+
+		ExistenceBatch previous = CURRENT.get();
+		CURRENT.set(this);
+
+		try
+		{
+			return action.get();
+		}
+		finally
+		{
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Возвращает пакетную проверку текущего потока.
+	 *
+	 * @return пакетную проверку, или {@code null} если она не выполняется.
+	 */
+	@Nullable
+	public static ExistenceBatch current()
+	{
+		return CURRENT.get();
+	}
+
+	/**
+	 * Возвращает результат пакетной проверки существования значения.
+	 *
+	 * @param constraint проверяемое ограничение.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} существует, {@code false}, если не существует,
+	 * или {@code null} если {@code value} не проверялось пакетно.
+	 */
+	@Nullable
+	Boolean exists(@NotNull final Exist constraint, @NotNull final Object value)
+	{
+		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(value);
+
+		Key key = new Key(constraint);
+		Set<?> existing = this.existing.get(key);
+
+		if (existing == null || !this.values.get(key).contains(value)) {
+			return null;
+		}
+
+		return existing.contains(value);
+	}
+
+	/**
+	 * Класс ключа ограничения пакетной проверки.
+	 * <p>
+	 * Ограничения с одинаковым ключом проверяются одним вызовом {@link BatchExistable#existing(Collection)}.
+	 */
+	private static final class Key
+	{
+		/**
+		 * Класс проверки существования.
+		 */
+		@NotNull
+		private final Class<?> existence;
+
+		/**
+		 * Жизненный цикл экземпляра класса проверки существования.
+		 */
+		@NotNull
+		private final Lifecycle lifecycle;
+
+		/**
+		 * Признак кэширования результатов.
+		 */
+		private final boolean cached;
+
+		/**
+		 * Конструктор для {@code Key}.
+		 *
+		 * @param constraint ограничение.
+		 */
+		private Key(@NotNull final Exist constraint)
+		{
+			this.existence = constraint.existence();
+			this.lifecycle = constraint.lifecycle();
+			this.cached = constraint.cached();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param obj {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(@Nullable final Object obj)
+		{
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			final Key key = (Key) obj;
+
+			return this.existence == key.existence
+				&& this.lifecycle == key.lifecycle
+				&& this.cached == key.cached;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			int result = 0;
+
+			result = 31 * result + this.existence.hashCode();
+			result = 31 * result + this.lifecycle.hashCode();
+			result = 31 * result + Boolean.hashCode(this.cached);
+
+			return result;
+		}
+	}
+}
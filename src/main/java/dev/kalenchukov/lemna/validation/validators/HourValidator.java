@@ -18,17 +18,18 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.Hour;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Класс проверяющего для ограничения {@link Hour}.
@@ -61,24 +62,151 @@ public final class HourValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Hour constraint = field.getDeclaredAnnotation(Hour.class);
+		Hour constraint = this.getConstraint(field, Hour.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		return this.getViolation(field, constraint, this.check(field, constraint, value));
+	}
 
-		if (!valid)
-		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.format().getMinHour()));
-			this.setParam("MAX", String.valueOf(constraint.format().getMaxHour()));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
-			);
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidInt(@NotNull final Field field, final int value)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Hour constraint = this.getConstraint(field, Hour.class);
+
+		return AbstractValidator.compileRange(
+			field,
+			Set.of(Byte.class, Short.class, Integer.class, Long.class),
+			constraint.format().getMinHour(),
+			constraint.format().getMaxHour()
+		);
+	}
+
+	/**
+	 * Возвращает нарушение по коду нарушения.
+	 *
+	 * @param field поле класса.
+	 * @param constraint проверяемое ограничение.
+	 * @param violationCode код нарушения.
+	 * @return нарушение, или {@code null} если {@code violationCode} равен {@code null}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
+	 */
+	@Nullable
+	private Violating getViolation(@NotNull final Field field,
+								   @NotNull final Hour constraint,
+								   @Nullable final String violationCode)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		if (violationCode == null) {
+			return null;
 		}
 
-		return null;
+		return new CompactViolation(
+			field.getName(),
+			violationCode,
+			this.lazyMessage(constraint.message(), violationCode),
+			RANGE_PARAMS,
+			field.getName(),
+			String.valueOf(constraint.format().getMinHour()),
+			String.valueOf(constraint.format().getMaxHour())
+		);
 	}
 
 	/**
@@ -87,42 +215,43 @@ public final class HourValidator extends AbstractValidator
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Hour constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Hour constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Byte.class))
 		{
-			return this.isValidByte(constraint, (Byte) value);
+			return this.checkByte(constraint, (Byte) value);
 		}
 		else if (value.getClass().equals(Long.class))
 		{
-			return this.isValidLong(constraint, (Long) value);
+			return this.checkLong(constraint, (Long) value);
 		}
 		else if (value.getClass().equals(Integer.class))
 		{
-			return this.isValidInteger(constraint, (Integer) value);
+			return this.checkInteger(constraint, (Integer) value);
 		}
 		else if (value.getClass().equals(Short.class))
 		{
-			return this.isValidShort(constraint, (Short) value);
+			return this.checkShort(constraint, (Short) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -133,14 +262,15 @@ public final class HourValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidByte(@NotNull final Hour constraint, final byte value)
+	@Nullable
+	private String checkByte(@NotNull final Hour constraint, final byte value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -148,14 +278,15 @@ public final class HourValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidShort(@NotNull final Hour constraint, final short value)
+	@Nullable
+	private String checkShort(@NotNull final Hour constraint, final short value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -163,14 +294,15 @@ public final class HourValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidInteger(@NotNull final Hour constraint, final int value)
+	@Nullable
+	private String checkInteger(@NotNull final Hour constraint, final int value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, Long.parseLong(String.valueOf(value)));
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -178,14 +310,15 @@ public final class HourValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidLong(@NotNull final Hour constraint, final long value)
+	@Nullable
+	private String checkLong(@NotNull final Hour constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -194,35 +327,22 @@ public final class HourValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidAbstract(@NotNull final Hour constraint, final long value)
+	@Nullable
+	private String checkAbstract(@NotNull final Hour constraint, final long value)
 	{
 		Objects.requireNonNull(constraint);
 
-		if (value < constraint.format().getMinHour())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90008")
-			));
-
-			return false;
+		if (value < constraint.format().getMinHour()) {
+			return "90008";
 		}
 
-		if (value > constraint.format().getMaxHour())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90009")
-			));
-
-			return false;
+		if (value > constraint.format().getMaxHour()) {
+			return "90009";
 		}
 
-		return true;
+		return null;
 	}
 }
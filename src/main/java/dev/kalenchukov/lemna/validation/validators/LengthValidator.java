@@ -18,17 +18,17 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Length;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Класс проверяющего для ограничения {@link Length}.
@@ -61,56 +61,105 @@ public final class LengthValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Length constraint = field.getDeclaredAnnotation(Length.class);
+		Length constraint = this.getConstraint(field, Length.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
+			return new CompactViolation(
+				field.getName(),
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				RANGE_PARAMS,
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				String.valueOf(constraint.min()),
+				String.valueOf(constraint.max())
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Length constraint = this.getConstraint(field, Length.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		if (!field.getType().equals(String.class)) {
+			return null;
+		}
+
+		Length constraint = this.getConstraint(field, Length.class);
+		int min = constraint.min();
+		int max = constraint.max();
+
+		return value -> {
+			if (value == null) {
+				return true;
+			}
+
+			int length = ((String) value).length();
+
+			return length >= min && length <= max;
+		};
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Length constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Length constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -121,16 +170,17 @@ public final class LengthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidString(@NotNull final Length constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final Length constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -139,37 +189,24 @@ public final class LengthValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidAbstract(@NotNull final Length constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final Length constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		if (value.length() < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90012")
-			));
-
-			return false;
+		if (value.length() < constraint.min()) {
+			return "90012";
 		}
 
-		if (value.length() > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90013")
-			));
-
-			return false;
+		if (value.length() > constraint.max()) {
+			return "90013";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -19,11 +19,10 @@
 package dev.kalenchukov.lemna.validation.validators;
 
 import dev.kalenchukov.alphabet.Alphabetical;
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.LetterAlphabet;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,56 +59,74 @@ public final class LetterAlphabetValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		LetterAlphabet constraint = field.getDeclaredAnnotation(LetterAlphabet.class);
+		LetterAlphabet constraint = this.getConstraint(field, LetterAlphabet.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				FIELD_PARAMS,
+				field.getName()
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		LetterAlphabet constraint = this.getConstraint(field, LetterAlphabet.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final LetterAlphabet constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final LetterAlphabet constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Character.class))
 		{
-			return this.isValidCharacter(constraint, (Character) value);
+			return this.checkCharacter(constraint, (Character) value);
 		}
 		else if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -120,13 +137,14 @@ public final class LetterAlphabetValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidCharacter(@NotNull final LetterAlphabet constraint, final char value)
+	@Nullable
+	private String checkCharacter(@NotNull final LetterAlphabet constraint, final char value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -134,25 +152,28 @@ public final class LetterAlphabetValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidString(@NotNull final LetterAlphabet constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final LetterAlphabet constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
 		if (value.isEmpty()) {
-			return false;
+			return "90003";
 		}
 
 		for (char character : value.toCharArray())
 		{
-			if (!this.isValidAbstract(constraint, character)) {
-				return false;
+			String violationCode = this.checkAbstract(constraint, character);
+
+			if (violationCode != null) {
+				return violationCode;
 			}
 		}
 
-		return true;
+		return null;
 	}
 
 	/**
@@ -161,36 +182,23 @@ public final class LetterAlphabetValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final LetterAlphabet constraint, final char value)
+	@Nullable
+	private String checkAbstract(@NotNull final LetterAlphabet constraint, final char value)
 	{
 		Objects.requireNonNull(constraint);
 
-		if (!Character.isLetter(value))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90019")
-			));
-
-			return false;
+		if (!Character.isLetter(value)) {
+			return "90019";
 		}
 
 		Alphabetical alphabet = constraint.alphabet().getAlphabet();
 
-		if (!alphabet.contains(value))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90003")
-			));
-
-			return false;
+		if (!alphabet.contains(value)) {
+			return "90003";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.validators;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс скомпилированного шаблона сообщения о нарушении.
+ * <p>
+ * Шаблон разбирается один раз на части текста, между которыми находятся
+ * места подстановки сообщения по умолчанию {@code %DEFAULT_MESSAGE%}.
+ * Остальные переменные шаблона, например {@code %FIELD%}, сохраняются в сообщении как есть.
+ *
+ * @author Алексей Каленчуков
+ */
+final class MessageTemplate
+{
+	/**
+	 * Переменная сообщения по умолчанию.
+	 */
+	@NotNull
+	private static final String DEFAULT_MESSAGE = "%DEFAULT_MESSAGE%";
+
+	/**
+	 * Скомпилированные шаблоны по тексту шаблона.
+	 */
+	@NotNull
+	private static final ConcurrentMap<@NotNull String, @NotNull MessageTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+	/**
+	 * Части текста шаблона.
+	 * Между соседними частями подставляется сообщение по умолчанию.
+	 */
+	@NotNull
+	private final String @NotNull [] segments;
+
+	/**
+	 * Общая длина частей текста шаблона.
+	 */
+	private final int length;
+
+	/**
+	 * Конструктор для {@code MessageTemplate}.
+	 *
+	 * @param template текст шаблона.
+	 */
+	private MessageTemplate(@NotNull final String template)
+	{
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		int index;
+
+		while ((index = template.indexOf(DEFAULT_MESSAGE, start)) >= 0)
+		{
+			segments.add(template.substring(start, index));
+			start = index + DEFAULT_MESSAGE.length();
+		}
+
+		segments.add(template.substring(start));
+
+		this.segments = segments.toArray(String[]::new);
+		this.length = template.length() - (this.segments.length - 1) * DEFAULT_MESSAGE.length();
+	}
+
+	/**
+	 * Возвращает скомпилированный шаблон.
+	 *
+	 * @param template текст шаблона.
+	 * @return скомпилированный шаблон.
+	 * @throws NullPointerException если в качестве {@code template} передан {@code null}.
+	 */
+	@NotNull
+	static MessageTemplate of(@NotNull final String template)
+	{
+		Objects.requireNonNull(template);
+
+		return TEMPLATES.computeIfAbsent(template, MessageTemplate::new);
+	}
+
+	/**
+	 * Формирует сообщение о нарушении.
+	 *
+	 * @param defaultMessage сообщение по умолчанию.
+	 * @return сообщение о нарушении.
+	 * @throws NullPointerException если в качестве {@code defaultMessage} передан {@code null}.
+	 */
+	@NotNull
+	String render(@NotNull final String defaultMessage)
+	{
+		Objects.requireNonNull(defaultMessage);
+
+		if (this.segments.length == 1) {
+			return this.segments[0];
+		}
+
+		if (this.length == 0 && this.segments.length == 2) {
+			return defaultMessage;
+		}
+
+		StringBuilder message = new StringBuilder(
+			this.length + (this.segments.length - 1) * defaultMessage.length()
+		);
+
+		message.append(this.segments[0]);
+
+		for (int index = 1; index < this.segments.length; index++)
+		{
+			message.append(defaultMessage);
+			message.append(this.segments[index]);
+		}
+
+		return message.toString();
+	}
+}
@@ -18,17 +18,17 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.NumberFloat;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Класс проверяющего для ограничения {@link NumberFloat}.
@@ -61,24 +61,127 @@ public final class NumberFloatValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		NumberFloat constraint = field.getDeclaredAnnotation(NumberFloat.class);
+		NumberFloat constraint = this.getConstraint(field, NumberFloat.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		return this.getViolation(field, constraint, this.check(field, constraint, value));
+	}
 
-		if (!valid)
-		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
-			);
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		NumberFloat constraint = this.getConstraint(field, NumberFloat.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violating validDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		NumberFloat constraint = this.getConstraint(field, NumberFloat.class);
+
+		return this.getViolation(field, constraint, this.checkAbstract(constraint, value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValidDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		NumberFloat constraint = this.getConstraint(field, NumberFloat.class);
+
+		return this.checkAbstract(constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Class<?> type = AbstractValidator.wrap(field.getType());
+
+		if (!type.equals(Float.class) && !type.equals(Double.class)) {
+			return null;
 		}
 
-		return null;
+		NumberFloat constraint = this.getConstraint(field, NumberFloat.class);
+		double min = constraint.min();
+		double max = constraint.max();
+
+		return value -> {
+			if (value == null) {
+				return true;
+			}
+
+			double number = ((java.lang.Number) value).doubleValue();
+
+			return number >= min && number <= max;
+		};
+	}
+
+	/**
+	 * Возвращает нарушение по коду нарушения.
+	 *
+	 * @param field поле класса.
+	 * @param constraint проверяемое ограничение.
+	 * @param violationCode код нарушения.
+	 * @return нарушение, или {@code null} если {@code violationCode} равен {@code null}.
+	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
+	 */
+	@Nullable
+	private Violating getViolation(@NotNull final Field field,
+								   @NotNull final NumberFloat constraint,
+								   @Nullable final String violationCode)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		if (violationCode == null) {
+			return null;
+		}
+
+		return new CompactViolation(
+			field.getName(),
+			violationCode,
+			this.lazyMessage(constraint.message(), violationCode),
+			RANGE_PARAMS,
+			field.getName(),
+			String.valueOf(constraint.min()),
+			String.valueOf(constraint.max())
+		);
 	}
 
 	/**
@@ -87,34 +190,35 @@ public final class NumberFloatValidator extends AbstractValidator
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final NumberFloat constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final NumberFloat constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Float.class))
 		{
-			return this.isValidFloat(constraint, (Float) value);
+			return this.checkFloat(constraint, (Float) value);
 		}
 		else if (value.getClass().equals(Double.class))
 		{
-			return this.isValidDouble(constraint, (Double) value);
+			return this.checkDouble(constraint, (Double) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -125,14 +229,15 @@ public final class NumberFloatValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidFloat(@NotNull final NumberFloat constraint, final float value)
+	@Nullable
+	private String checkFloat(@NotNull final NumberFloat constraint, final float value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -140,14 +245,15 @@ public final class NumberFloatValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidDouble(@NotNull final NumberFloat constraint, final double value)
+	@Nullable
+	private String checkDouble(@NotNull final NumberFloat constraint, final double value)
 	{
 		Objects.requireNonNull(constraint);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -156,35 +262,22 @@ public final class NumberFloatValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidAbstract(@NotNull final NumberFloat constraint, final double value)
+	@Nullable
+	private String checkAbstract(@NotNull final NumberFloat constraint, final double value)
 	{
 		Objects.requireNonNull(constraint);
 
-		if (value < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90008")
-			));
-
-			return false;
+		if (value < constraint.min()) {
+			return "90008";
 		}
 
-		if (value > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90009")
-			));
-
-			return false;
+		if (value > constraint.max()) {
+			return "90009";
 		}
 
-		return true;
+		return null;
 	}
 }
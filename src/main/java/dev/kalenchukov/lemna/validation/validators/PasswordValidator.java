@@ -18,11 +18,10 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
-import dev.kalenchukov.lemna.validation.Violation;
 import dev.kalenchukov.lemna.validation.constraints.Password;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -38,6 +37,12 @@ import java.util.Objects;
  */
 public final class PasswordValidator extends AbstractValidator
 {
+	/**
+	 * Названия параметров нарушения.
+	 */
+	@NotNull
+	private static final String @NotNull [] PARAMS = {"FIELD", "MIN_LETTERS", "MIN_DIGITS", "MIN_SPECIAL"};
+
 	/**
 	 * Конструктор для {@code PasswordValidator}.
 	 * @param locale локализация.
@@ -62,57 +67,75 @@ public final class PasswordValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Password constraint = field.getDeclaredAnnotation(Password.class);
+		Password constraint = this.getConstraint(field, Password.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN_LETTERS", String.valueOf(constraint.minLetters()));
-			this.setParam("MIN_DIGITS", String.valueOf(constraint.minDigits()));
-			this.setParam("MIN_SPECIAL", String.valueOf(constraint.minSpecial()));
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				PARAMS,
+				field.getName(),
+				String.valueOf(constraint.minLetters()),
+				String.valueOf(constraint.minDigits()),
+				String.valueOf(constraint.minSpecial())
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Password constraint = this.getConstraint(field, Password.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Password constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Password constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -123,11 +146,12 @@ public final class PasswordValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidString(@NotNull final Password constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final Password constraint, @NotNull final String value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
@@ -167,53 +191,25 @@ public final class PasswordValidator extends AbstractValidator
 			}
 		}
 
-		if (letter < constraint.minLetters())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90022")
-			));
-
-			return false;
+		if (letter < constraint.minLetters()) {
+			return "90022";
 		}
 
 		if (constraint.mixedCase())
 		{
-			if (letterUpperCase == 0 || letterLowerCase == 0)
-			{
-				this.setMessage(StringFormat.format(
-					constraint.message(),
-					"DEFAULT_MESSAGE",
-					this.localeViolations.getString("90023")
-				));
-
-				return false;
+			if (letterUpperCase == 0 || letterLowerCase == 0) {
+				return "90023";
 			}
 		}
 
-		if (digit < constraint.minDigits())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90021")
-			));
-
-			return false;
+		if (digit < constraint.minDigits()) {
+			return "90021";
 		}
 
-		if (specialCharacter < constraint.minSpecial())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90020")
-			));
-
-			return false;
+		if (specialCharacter < constraint.minSpecial()) {
+			return "90020";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -18,17 +18,19 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Pattern;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Класс проверяющего для ограничения {@link Pattern}.
@@ -37,6 +39,18 @@ import java.util.Objects;
  */
 public final class PatternValidator extends AbstractValidator
 {
+	/**
+	 * Названия параметров нарушения.
+	 */
+	@NotNull
+	private static final String @NotNull [] PARAMS = {"FIELD", "REGEXP"};
+
+	/**
+	 * Скомпилированное регулярное выражение ограничения поля класса, к которому привязан проверяющий.
+	 */
+	@Nullable
+	private java.util.regex.Pattern regexp;
+
 	/**
 	 * Конструктор для {@code PatternValidator}.
 	 * @param locale локализация.
@@ -46,6 +60,30 @@ public final class PatternValidator extends AbstractValidator
 		super(Objects.requireNonNull(locale));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Регулярное выражение компилируется при построении плана проверки,
+	 * поэтому некорректное регулярное выражение обнаруживается до проверки значений.
+	 *
+	 * @param field {@inheritDoc}
+	 * @param constraint {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 * @throws PatternSyntaxException если регулярное выражение ограничения некорректно.
+	 */
+	@NotNull
+	@Override
+	public Validator bind(@NotNull final Field field, @NotNull final Annotation constraint)
+	{
+		PatternValidator validator = (PatternValidator) super.bind(field, constraint);
+		validator.regexp = java.util.regex.Pattern.compile(
+			Objects.requireNonNull(validator.getConstraint(field, Pattern.class)).regexp()
+		);
+
+		return validator;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -59,25 +97,64 @@ public final class PatternValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Pattern constraint = field.getDeclaredAnnotation(Pattern.class);
+		Pattern constraint = this.getConstraint(field, Pattern.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("REGEXP", constraint.regexp());
-
-			return new Violation(
+			return new CompactViolation(
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				PARAMS,
+				field.getName(),
+				constraint.regexp()
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Pattern constraint = this.getConstraint(field, Pattern.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PatternSyntaxException если регулярное выражение ограничения некорректно.
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Pattern constraint = this.getConstraint(field, Pattern.class);
+		java.util.regex.Pattern regexp = this.getRegexp(field, constraint);
+
+		if (!field.getType().equals(String.class)) {
+			return null;
+		}
+
+		return value -> value == null || regexp.matcher((String) value).matches();
+	}
 
 	/**
 	 * Проверяет корректность значения поля класса.
@@ -85,32 +162,34 @@ public final class PatternValidator extends AbstractValidator
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
+	 * @throws PatternSyntaxException если регулярное выражение ограничения некорректно.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Pattern constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Pattern constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(this.getRegexp(field, constraint), (String) value);
 		}
 		else if (value.getClass().equals(Character.class))
 		{
-			return this.isValidCharacter(constraint, (Character) value);
+			return this.checkCharacter(this.getRegexp(field, constraint), (Character) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -119,56 +198,78 @@ public final class PatternValidator extends AbstractValidator
 	/**
 	 * Проверка значения поля класса типа {@code Character}.
 	 *
-	 * @param constraint проверяемое ограничение.
+	 * @param regexp регулярное выражение ограничения.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidCharacter(@NotNull final Pattern constraint, final char value)
+	@Nullable
+	private String checkCharacter(final java.util.regex.@NotNull Pattern regexp, final char value)
 	{
-		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(regexp);
 
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(regexp, String.valueOf(value));
 	}
 
 	/**
 	 * Проверка значения поля класса типа {@code String}.
 	 *
-	 * @param constraint проверяемое ограничение.
+	 * @param regexp регулярное выражение ограничения.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidString(@NotNull final Pattern constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(final java.util.regex.@NotNull Pattern regexp, @NotNull final String value)
 	{
-		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(regexp);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(regexp, value);
 	}
 
 	/**
 	 * Проверка значения поля класса абстрактного типа.
 	 * В качестве абстракции используется тип {@code String}.
 	 *
-	 * @param constraint проверяемое ограничение.
+	 * @param regexp регулярное выражение ограничения.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final Pattern constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(final java.util.regex.@NotNull Pattern regexp, @NotNull final String value)
 	{
-		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(regexp);
 		Objects.requireNonNull(value);
 
-		if (!value.matches(constraint.regexp()))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90010")
-			));
+		if (!regexp.matcher(value).matches()) {
+			return "90010";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Возвращает скомпилированное регулярное выражение ограничения.
+	 * <p>
+	 * Для поля класса, к которому привязан проверяющий, возвращается регулярное выражение,
+	 * скомпилированное при привязке, иначе регулярное выражение компилируется заново.
+	 *
+	 * @param field поле класса.
+	 * @param constraint ограничение.
+	 * @return скомпилированное регулярное выражение.
+	 * @throws PatternSyntaxException если регулярное выражение некорректно.
+	 */
+	@NotNull
+	private java.util.regex.Pattern getRegexp(@NotNull final Field field, @NotNull final Pattern constraint)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		java.util.regex.Pattern regexp = this.regexp;
 
-			return false;
+		if (regexp != null && this.isBound(field)) {
+			return regexp;
 		}
 
-		return true;
+		return java.util.regex.Pattern.compile(constraint.regexp());
 	}
 }
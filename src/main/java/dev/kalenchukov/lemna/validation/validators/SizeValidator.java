@@ -18,17 +18,17 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Size;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Класс проверяющего для ограничения {@link Size}.
@@ -61,64 +61,139 @@ public final class SizeValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Size constraint = field.getDeclaredAnnotation(Size.class);
+		Size constraint = this.getConstraint(field, Size.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String violationCode = this.check(field, constraint, value);
 
-		if (!valid)
+		if (violationCode != null)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
+			return new CompactViolation(
+				field.getName(),
+				violationCode,
+				this.lazyMessage(constraint.message(), violationCode),
+				RANGE_PARAMS,
 				field.getName(),
-				this.getMessage(),
-				this.getParams()
+				String.valueOf(constraint.min()),
+				String.valueOf(constraint.max())
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Size constraint = this.getConstraint(field, Size.class);
+
+		return this.check(field, constraint, value) == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Size constraint = this.getConstraint(field, Size.class);
+		int min = constraint.min();
+		int max = constraint.max();
+		Class<?> type = field.getType();
+
+		if (type.isArray())
+		{
+			return value -> {
+				if (value == null) {
+					return true;
+				}
+
+				int length = Array.getLength(value);
+
+				return length >= min && length <= max;
+			};
+		}
+		else if (Collection.class.isAssignableFrom(type))
+		{
+			return value -> {
+				if (value == null) {
+					return true;
+				}
+
+				int length = ((Collection<?>) value).size();
+
+				return length >= min && length <= max;
+			};
+		}
+		else if (Map.class.isAssignableFrom(type))
+		{
+			return value -> {
+				if (value == null) {
+					return true;
+				}
+
+				int length = ((Map<?, ?>) value).size();
+
+				return length >= min && length <= max;
+			};
+		}
+
+		return null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws NullPointerException если в качестве {@code field} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Size constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Size constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().isArray())
 		{
-			return this.isValidArray(constraint, (Object) value);
+			return this.checkArray(constraint, (Object) value);
 		}
 		else if (value instanceof Collection<?>)
 		{
-			return this.isValidCollection(constraint, (Collection<?>) value);
+			return this.checkCollection(constraint, (Collection<?>) value);
 		}
 		else if (value instanceof Map<?, ?>)
 		{
-			return this.isValidMap(constraint, (Map<?, ?>) value);
+			return this.checkMap(constraint, (Map<?, ?>) value);
 		}
 		else
 		{
 			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20001"),
+				this.messageCatalog.getException("20001"),
 				constraint.getClass().getSimpleName()
 			));
 		}
@@ -129,16 +204,17 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidMap(@NotNull final Size constraint, @NotNull final Map<?, ?> value)
+	@Nullable
+	private String checkMap(@NotNull final Size constraint, @NotNull final Map<?, ?> value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value.size());
+		return this.checkAbstract(constraint, value.size());
 	}
 
 	/**
@@ -146,16 +222,17 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidCollection(@NotNull final Size constraint, @NotNull final Collection<?> value)
+	@Nullable
+	private String checkCollection(@NotNull final Size constraint, @NotNull final Collection<?> value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, value.size());
+		return this.checkAbstract(constraint, value.size());
 	}
 
 	/**
@@ -163,16 +240,17 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
-	private boolean isValidArray(@NotNull final Size constraint, @NotNull final Object value)
+	@Nullable
+	private String checkArray(@NotNull final Size constraint, @NotNull final Object value)
 	{
 		Objects.requireNonNull(constraint);
 		Objects.requireNonNull(value);
 
-		return this.isValidAbstract(constraint, Array.getLength(value));
+		return this.checkAbstract(constraint, Array.getLength(value));
 	}
 
 	/**
@@ -181,35 +259,22 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint проверяемое ограничение.
 	 * @param length количество элементов значения поля класса.
-	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно.
 	 * @throws NullPointerException если в качестве {@code constraint} передан {@code null}.
 	 */
-	private boolean isValidAbstract(@NotNull final Size constraint, final int length)
+	@Nullable
+	private String checkAbstract(@NotNull final Size constraint, final int length)
 	{
 		Objects.requireNonNull(constraint);
 
-		if (length < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90005")
-			));
-
-			return false;
+		if (length < constraint.min()) {
+			return "90005";
 		}
 
-		if (length > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90006")
-			));
-
-			return false;
+		if (length > constraint.max()) {
+			return "90006";
 		}
 
-		return true;
+		return null;
 	}
 }
@@ -18,21 +18,24 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.ExistenceCache;
+import dev.kalenchukov.lemna.validation.InstanceRegistry;
+import dev.kalenchukov.lemna.validation.CompactViolation;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Valid;
 import dev.kalenchukov.lemna.validation.exceptions.InvalidExistenceClassException;
 import dev.kalenchukov.lemna.validation.exceptions.InvalidValidationClassException;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.lemna.validation.interfaces.Validable;
-import dev.kalenchukov.lemna.validation.Violation;
-import dev.kalenchukov.string.formatting.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Supplier;
 /**
  * Класс проверяющего для ограничения {@link Valid}.
  *
@@ -40,13 +43,88 @@ import java.util.Objects;
  */
 public final class ValidValidator extends AbstractValidator
 {
+	/**
+	 * Собственные реализации проверки по классам.
+	 */
+	@NotNull
+	private static final ClassValue<@NotNull CustomImplementation> IMPLEMENTATIONS = CustomImplementation.cache("valid");
+
+	/**
+	 * Реестр экземпляров классов с собственной реализацией проверки.
+	 */
+	@NotNull
+	private final InstanceRegistry instanceRegistry;
+
+	/**
+	 * Ограничения поля класса, к которому привязан проверяющий.
+	 */
+	@NotNull
+	private Valid @NotNull [] constraints = new Valid[0];
+
 	/**
 	 * Конструктор для {@code ValidValidator}.
+	 *
 	 * @param locale локализация.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
 	 */
 	public ValidValidator(@NotNull final Locale locale)
+	{
+		this(locale, new InstanceRegistry());
+	}
+
+	/**
+	 * Конструктор для {@code ValidValidator}.
+	 *
+	 * @param locale локализация.
+	 * @param instanceRegistry реестр экземпляров классов с собственной реализацией проверки.
+	 * @throws NullPointerException если в качестве {@code locale} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code instanceRegistry} передан {@code null}.
+	 */
+	public ValidValidator(@NotNull final Locale locale, @NotNull final InstanceRegistry instanceRegistry)
 	{
 		super(Objects.requireNonNull(locale));
+
+		this.instanceRegistry = Objects.requireNonNull(instanceRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param instanceRegistry {@inheritDoc}
+	 * @param existenceCache {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Validator bind(@NotNull final InstanceRegistry instanceRegistry,
+						  @NotNull final Supplier<@Nullable ExistenceCache> existenceCache)
+	{
+		Objects.requireNonNull(instanceRegistry);
+		Objects.requireNonNull(existenceCache);
+
+		if (instanceRegistry == this.instanceRegistry) {
+			return this;
+		}
+
+		return new ValidValidator(this.locale, instanceRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param constraint {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Validator bind(@NotNull final Field field, @NotNull final Annotation constraint)
+	{
+		ValidValidator validator = (ValidValidator) super.bind(field, constraint);
+		validator.constraints = field.getDeclaredAnnotationsByType(Valid.class);
+
+		return validator;
 	}
 
 	/**
@@ -62,20 +140,20 @@ public final class ValidValidator extends AbstractValidator
 	{
 		Objects.requireNonNull(field);
 
-		Valid[] constraints = field.getDeclaredAnnotationsByType(Valid.class);
+		Valid[] constraints = this.getConstraints(field);
 
 		for (Valid constraint : constraints)
 		{
-			boolean valid = this.isValid(field, constraint, value);
+			String violationCode = this.check(field, constraint, value);
 
-			if (!valid)
+			if (violationCode != null)
 			{
-				this.setParam("FIELD", field.getName());
-
-				return new Violation(
+				return new CompactViolation(
 					field.getName(),
-					this.getMessage(),
-					this.getParams()
+					violationCode,
+					this.lazyMessage(constraint.message(), violationCode),
+					FIELD_PARAMS,
+					field.getName()
 				);
 			}
 		}
@@ -83,64 +161,126 @@ public final class ValidValidator extends AbstractValidator
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param field {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Valid[] constraints = this.getConstraints(field);
+
+		for (Valid constraint : constraints)
+		{
+			if (this.check(field, constraint, value) != null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Возвращает ограничения поля класса.
+	 * <p>
+	 * Для поля класса, к которому привязан проверяющий, возвращаются привязанные ограничения.
+	 *
+	 * @param field поле класса.
+	 * @return ограничения поля класса.
+	 */
+	@NotNull
+	private Valid @NotNull [] getConstraints(@NotNull final Field field)
+	{
+		if (this.isBound(field)) {
+			return this.constraints;
+		}
+
+		return field.getDeclaredAnnotationsByType(Valid.class);
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field поле класса.
 	 * @param constraint проверяемое ограничение.
 	 * @param value значение поля класса.
-	 * @return {@code true}, если {@code value} корректно в {@code field}, иначе {@code false}.
+	 * @return код нарушения, или {@code null} если {@code value} корректно в {@code field}.
 	 * @throws UnsupportedFieldTypeException если тип {@code field} не поддерживается данным ограничением.
 	 * @throws InvalidExistenceClassException если класс проверки существования некорректный.
 	 */
-	private boolean isValid(@NotNull final Field field,
-							@NotNull final Valid constraint,
-							@Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						@NotNull final Valid constraint,
+						@Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		Class<? extends Validable<?>> validator = constraint.validator();
+		CustomImplementation implementation = IMPLEMENTATIONS.get(validator);
+		MethodHandle method;
 
 		try
 		{
-			Method method = validator.getMethod("valid", field.getType());
+			method = implementation.getMethod(field.getType());
+		}
+		catch (IllegalStateException exception)
+		{
+			throw new InvalidValidationClassException(String.format(
+				this.messageCatalog.getException("20003"),
+				validator.getName()
+			), exception);
+		}
 
-			boolean valid = (boolean) method.invoke(
-				validator.getConstructor().newInstance(),
-				value
-			);
+		if (method == null)
+		{
+			throw new UnsupportedFieldTypeException(String.format(
+				this.messageCatalog.getException("20005"),
+				validator.getName()
+			));
+		}
 
-			if (!valid)
-			{
-				this.setMessage(StringFormat.format(
-					constraint.message(),
-					"DEFAULT_MESSAGE",
-					this.localeViolations.getString("90002")
-				));
+		Object instance;
 
-				return false;
-			}
+		try
+		{
+			instance = implementation.getInstance(constraint.lifecycle(), this.instanceRegistry);
 		}
-		catch (NoSuchMethodException exception)
+		catch (IllegalStateException exception)
 		{
-			throw new UnsupportedFieldTypeException(String.format(
-				this.localeExceptions.getString("20005"),
+			throw new InvalidValidationClassException(String.format(
+				this.messageCatalog.getException("20003"),
 				validator.getName()
-			));
+			), exception);
+		}
+
+		boolean valid;
+
+		try
+		{
+			valid = (boolean) method.invokeExact(instance, value);
 		}
-		catch (Exception exception)
+		catch (Throwable exception)
 		{
 			throw new InvalidValidationClassException(String.format(
-				this.localeExceptions.getString("20003"),
+				this.messageCatalog.getException("20003"),
 				validator.getName()
-			));
+			), exception);
 		}
 
-		return true;
+		if (!valid) {
+			return "90002";
+		}
+
+		return null;
 	}
 }
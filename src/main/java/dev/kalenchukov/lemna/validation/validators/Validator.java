@@ -18,15 +18,23 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.ExistenceCache;
+import dev.kalenchukov.lemna.validation.InstanceRegistry;
 import dev.kalenchukov.lemna.validation.Violating;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Интерфейс для реализации проверяющего.
+ * <p>
+ * Проверяющий не хранит состояние между вызовами и может одновременно использоваться из разных потоков.
  *
  * @author Алексей Каленчуков
  */
@@ -44,33 +52,173 @@ public interface Validator
 	valid(@NotNull Field field, @Nullable Object value);
 
 	/**
-	 * Возвращает параметры нарушения.
+	 * Проверяет корректность значения поля класса асинхронно.
+	 * <p>
+	 * Проверяющие, обращающиеся к внешним ресурсам, переопределяют метод
+	 * для проверки без блокирования вызывающего потока. По умолчанию значение
+	 * проверяется методом {@link #valid(Field, Object)} в вызывающем потоке.
 	 *
-	 * @return коллекцию параметров нарушения.
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return стадию, завершающуюся нарушением, или {@code null} если значение поля класса корректно.
 	 */
 	@NotNull
-	Map<@NotNull String, @NotNull String> getParams();
+	default CompletionStage<@Nullable Violating> validAsync(@NotNull final Field field, @Nullable final Object value)
+	{
+		return CompletableFuture.completedFuture(this.valid(field, value));
+	}
+
+	/**
+	 * Проверяет корректность значения поля класса типа {@code int}.
+	 * <p>
+	 * Проверяющие, поддерживающие тип {@code Integer}, переопределяют метод
+	 * для проверки без упаковки значения. По умолчанию значение упаковывается
+	 * и проверяется методом {@link #valid(Field, Object)}.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return нарушение, или {@code null} если {@code value} корректно.
+	 */
+	@Nullable
+	default Violating validInt(@NotNull final Field field, final int value)
+	{
+		return this.valid(field, value);
+	}
+
+	/**
+	 * Проверяет корректность значения поля класса типа {@code long}.
+	 * <p>
+	 * Проверяющие, поддерживающие тип {@code Long}, переопределяют метод
+	 * для проверки без упаковки значения. По умолчанию значение упаковывается
+	 * и проверяется методом {@link #valid(Field, Object)}.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return нарушение, или {@code null} если {@code value} корректно.
+	 */
+	@Nullable
+	default Violating validLong(@NotNull final Field field, final long value)
+	{
+		return this.valid(field, value);
+	}
 
 	/**
-	 * Устанавливает параметр нарушения.
+	 * Проверяет корректность значения поля класса типа {@code double}.
+	 * <p>
+	 * Проверяющие, поддерживающие тип {@code Double}, переопределяют метод
+	 * для проверки без упаковки значения. По умолчанию значение упаковывается
+	 * и проверяется методом {@link #valid(Field, Object)}.
 	 *
-	 * @param key название параметра.
-	 * @param value значение параметра.
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return нарушение, или {@code null} если {@code value} корректно.
 	 */
-	void setParam(@NotNull String key, @NotNull String value);
+	@Nullable
+	default Violating validDouble(@NotNull final Field field, final double value)
+	{
+		return this.valid(field, value);
+	}
 
 	/**
-	 * Возвращает сообщение нарушения.
+	 * Определяет корректность значения поля класса.
+	 * <p>
+	 * В отличие от {@link #valid(Field, Object)} не формирует нарушение.
+	 * Встроенные проверяющие переопределяют метод, не формируя сообщение о нарушении.
 	 *
-	 * @return сообщение нарушения.
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если значение поля класса корректно, иначе {@code false}.
+	 */
+	default boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		return this.valid(field, value) == null;
+	}
+
+	/**
+	 * Определяет корректность значения поля класса типа {@code int}.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @see #validInt(Field, int)
+	 */
+	default boolean isValidInt(@NotNull final Field field, final int value)
+	{
+		return this.isValid(field, value);
+	}
+
+	/**
+	 * Определяет корректность значения поля класса типа {@code long}.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @see #validLong(Field, long)
+	 */
+	default boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		return this.isValid(field, value);
+	}
+
+	/**
+	 * Определяет корректность значения поля класса типа {@code double}.
+	 *
+	 * @param field поле класса.
+	 * @param value значение поля класса.
+	 * @return {@code true}, если {@code value} корректно, иначе {@code false}.
+	 * @see #validDouble(Field, double)
+	 */
+	default boolean isValidDouble(@NotNull final Field field, final double value)
+	{
+		return this.isValid(field, value);
+	}
+
+	/**
+	 * Компилирует быструю проверку значения поля класса.
+	 * <p>
+	 * Скомпилированная проверка возвращает {@code true} только для заведомо корректных значений.
+	 * При {@code false} значение проверяется методом {@link #valid(Field, Object)},
+	 * который формирует нарушение или выбрасывает исключение.
+	 *
+	 * @param field поле класса.
+	 * @return скомпилированную проверку, или {@code null} если проверяющий её не поддерживает.
+	 */
+	@Nullable
+	default Predicate<@Nullable Object> compile(@NotNull final Field field)
+	{
+		return null;
+	}
+
+	/**
+	 * Возвращает проверяющего, использующего реестр экземпляров классов с собственной реализацией проверки
+	 * и кэш результатов проверки существования.
+	 *
+	 * @param instanceRegistry реестр экземпляров.
+	 * @param existenceCache поставщик кэша результатов проверки существования.
+	 * @return проверяющего, связанного с {@code instanceRegistry} и {@code existenceCache}, или данного проверяющего
+	 * если он не использует собственные реализации.
 	 */
 	@NotNull
-	String getMessage();
+	default Validator bind(@NotNull final InstanceRegistry instanceRegistry,
+						   @NotNull final Supplier<@Nullable ExistenceCache> existenceCache)
+	{
+		return this;
+	}
 
 	/**
-	 * Устанавливает сообщение нарушения.
+	 * Возвращает проверяющего, привязанного к ограничению поля класса.
+	 * <p>
+	 * Вызывается один раз при построении плана проверки.
+	 * Привязанный проверяющий не запрашивает ограничение у {@code field} при каждой проверке.
 	 *
-	 * @param message сообщение нарушения.
+	 * @param field поле класса.
+	 * @param constraint ограничение поля класса.
+	 * @return проверяющего, привязанного к {@code constraint} в {@code field}, или данного проверяющего
+	 * если он не поддерживает привязку.
 	 */
-	void setMessage(@NotNull String message);
+	@NotNull
+	default Validator bind(@NotNull final Field field, @NotNull final Annotation constraint)
+	{
+		return this;
+	}
 }
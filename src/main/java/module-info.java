@@ -9,12 +9,16 @@ module dev.kalenchukov.lemna.validation
 	requires dev.kalenchukov.alphabet;
 	requires dev.kalenchukov.numeralsystem;
 	requires dev.kalenchukov.string.regexp;
+	requires static java.compiler;
 
 	exports dev.kalenchukov.lemna.validation;
 	exports dev.kalenchukov.lemna.validation.constraints;
 	exports dev.kalenchukov.lemna.validation.resources;
 	exports dev.kalenchukov.lemna.validation.interfaces;
 	exports dev.kalenchukov.lemna.validation.exceptions;
+	exports dev.kalenchukov.lemna.validation.processing;
+
+	uses dev.kalenchukov.lemna.validation.processing.GeneratedValidator;
 
 	opens dev.kalenchukov.lemna.validation;
 }
\ No newline at end of file
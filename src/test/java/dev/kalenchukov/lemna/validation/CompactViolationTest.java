@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link CompactViolation}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CompactViolationTest
+{
+	/**
+	 * Названия параметров нарушения.
+	 */
+	private static final String[] KEYS = {"FIELD", "MIN", "MAX"};
+
+	/**
+	 * Проверка метода {@link CompactViolation#getParams()}.
+	 */
+	@Test
+	public void getParams()
+	{
+		Violating violation = new CompactViolation("id", "90008", () -> "Сообщение", KEYS, "id", "1", "10");
+
+		Map<String, String> actual = violation.getParams();
+
+		assertThat(actual).isEqualTo(Map.of("FIELD", "id", "MIN", "1", "MAX", "10"));
+		assertThat(actual.get("MAX")).isEqualTo("10");
+		assertThat(actual.get("REGEXP")).isNull();
+		assertThat(actual.hashCode()).isEqualTo(Map.of("FIELD", "id", "MIN", "1", "MAX", "10").hashCode());
+	}
+
+	/**
+	 * Проверка метода {@link CompactViolation#getCode()}.
+	 */
+	@Test
+	public void getCode()
+	{
+		Violating violation1 = new CompactViolation("id", "90008", () -> "Сообщение", KEYS, "id", "1", "10");
+		Violating violation2 = new Violation("id", "Сообщение", Map.of("FIELD", "id", "MIN", "1", "MAX", "10"));
+
+		assertThat(violation1.getCode()).isEqualTo("90008");
+		assertThat(violation2.getCode()).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link CompactViolation#equals(Object)} с нарушением {@link Violation}.
+	 */
+	@Test
+	public void testEqualsViolation()
+	{
+		Violating violation1 = new CompactViolation("id", "90008", () -> "Сообщение", KEYS, "id", "1", "10");
+		Violating violation2 = new Violation("id", "Сообщение", Map.of("FIELD", "id", "MIN", "1", "MAX", "10"));
+
+		assertThat(violation1).isEqualTo(violation2);
+		assertThat(violation2).isEqualTo(violation1);
+		assertThat(violation1.hashCode()).isEqualTo(violation2.hashCode());
+	}
+
+	/**
+	 * Проверка метода {@link CompactViolation#equals(Object)} с разными значениями параметров.
+	 */
+	@Test
+	public void testEqualsDifferent()
+	{
+		Violating violation1 = new CompactViolation("id", "90008", () -> "Сообщение", KEYS, "id", "1", "10");
+		Violating violation2 = new CompactViolation("id", "90008", () -> "Сообщение", KEYS, "id", "1", "20");
+
+		assertThat(violation1).isNotEqualTo(violation2);
+	}
+}
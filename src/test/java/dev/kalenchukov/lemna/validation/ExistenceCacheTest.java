@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.supports.existences.GenderExistence;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ExistenceCache}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ExistenceCacheTest
+{
+	/**
+	 * Проверка метода {@link ExistenceCache#get(Class, Object)}.
+	 */
+	@Test
+	public void get()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		existenceCache.put(GenderExistence.class, "MALE", true);
+		existenceCache.put(GenderExistence.class, "VALUE", false);
+
+		assertThat(existenceCache.get(GenderExistence.class, "MALE")).isTrue();
+		assertThat(existenceCache.get(GenderExistence.class, "VALUE")).isFalse();
+		assertThat(existenceCache.get(GenderExistence.class, "FEMALE")).isNull();
+		assertThat(existenceCache.getHitCount()).isEqualTo(2L);
+		assertThat(existenceCache.getMissCount()).isEqualTo(1L);
+	}
+
+	/**
+	 * Проверка метода {@link ExistenceCache#get(Class, Object)} с истёкшим временем жизни.
+	 */
+	@Test
+	public void getExpired() throws InterruptedException
+	{
+		ExistenceCache existenceCache = new ExistenceCache(10, Duration.ofMillis(1), Duration.ofMinutes(1));
+		existenceCache.put(GenderExistence.class, "MALE", true);
+
+		Thread.sleep(10);
+
+		assertThat(existenceCache.get(GenderExistence.class, "MALE")).isNull();
+		assertThat(existenceCache.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка метода {@link ExistenceCache#put(Class, Object, boolean)} с нулевым временем жизни.
+	 */
+	@Test
+	public void putZeroTtl()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(10, Duration.ofMinutes(1), Duration.ZERO);
+		existenceCache.put(GenderExistence.class, "VALUE", false);
+
+		assertThat(existenceCache.get(GenderExistence.class, "VALUE")).isNull();
+		assertThat(existenceCache.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка метода {@link ExistenceCache#put(Class, Object, boolean)} с превышением максимального размера.
+	 */
+	@Test
+	public void putMaximumSize()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		existenceCache.put(GenderExistence.class, "VALUE1", true);
+		existenceCache.put(GenderExistence.class, "VALUE2", true);
+		existenceCache.put(GenderExistence.class, "VALUE3", true);
+
+		assertThat(existenceCache.size()).isEqualTo(2);
+		assertThat(existenceCache.getEvictionCount()).isEqualTo(1L);
+		assertThat(existenceCache.get(GenderExistence.class, "VALUE1")).isNull();
+		assertThat(existenceCache.get(GenderExistence.class, "VALUE3")).isTrue();
+	}
+
+	/**
+	 * Проверка метода {@link ExistenceCache#clear()}.
+	 */
+	@Test
+	public void clear()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		existenceCache.put(GenderExistence.class, "MALE", true);
+
+		existenceCache.clear();
+
+		assertThat(existenceCache.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка метода {@link ExistenceCache#clear()} одновременно с {@link ExistenceCache#put(Class, Object, boolean)}.
+	 */
+	@Test
+	public void clearConcurrent() throws InterruptedException
+	{
+		ExistenceCache existenceCache = new ExistenceCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		List<Thread> threads = new ArrayList<>();
+
+		for (int thread = 0; thread < 4; thread++)
+		{
+			int offset = thread * 10_000;
+
+			threads.add(new Thread(() -> {
+				for (int index = 0; index < 10_000; index++)
+				{
+					existenceCache.put(GenderExistence.class, offset + index, true);
+
+					if (index % 100 == 0) {
+						existenceCache.clear();
+					}
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.start();
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		assertThat(existenceCache.size()).isLessThanOrEqualTo(10);
+
+		for (int index = 0; index < 20; index++)
+		{
+			existenceCache.put(GenderExistence.class, -index - 1, true);
+		}
+
+		assertThat(existenceCache.size()).isEqualTo(10);
+	}
+
+	/**
+	 * Проверка конструктора {@link ExistenceCache} с некорректным максимальным размером.
+	 */
+	@Test
+	public void constructorNotCorrectMaximumSize()
+	{
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+			new ExistenceCache(0, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		});
+	}
+}
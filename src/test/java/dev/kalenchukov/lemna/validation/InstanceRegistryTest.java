@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.supports.existences.GenderExistence;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link InstanceRegistry}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class InstanceRegistryTest
+{
+	/**
+	 * Проверка метода {@link InstanceRegistry#register(Class, Object)}.
+	 */
+	@Test
+	public void register()
+	{
+		InstanceRegistry instanceRegistry = new InstanceRegistry();
+		GenderExistence instance = new GenderExistence();
+
+		instanceRegistry.register(GenderExistence.class, instance);
+
+		assertThat(instanceRegistry.getRegistered(GenderExistence.class)).isSameAs(instance);
+	}
+
+	/**
+	 * Проверка метода {@link InstanceRegistry#unregister(Class)}.
+	 */
+	@Test
+	public void unregister()
+	{
+		InstanceRegistry instanceRegistry = new InstanceRegistry();
+		instanceRegistry.register(GenderExistence.class, new GenderExistence());
+
+		instanceRegistry.unregister(GenderExistence.class);
+
+		assertThat(instanceRegistry.getRegistered(GenderExistence.class)).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link InstanceRegistry#getInstance(Class, java.util.function.Supplier)} с повторным вызовом.
+	 */
+	@Test
+	public void getInstanceSame()
+	{
+		InstanceRegistry instanceRegistry = new InstanceRegistry();
+
+		GenderExistence instance1 = instanceRegistry.getInstance(GenderExistence.class, GenderExistence::new);
+		GenderExistence instance2 = instanceRegistry.getInstance(GenderExistence.class, GenderExistence::new);
+
+		assertThat(instance1).isSameAs(instance2);
+		assertThat(instanceRegistry.getRegistered(GenderExistence.class)).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link InstanceRegistry#getInstance(Class, java.util.function.Supplier)}
+	 * с зарегистрированным экземпляром.
+	 */
+	@Test
+	public void getInstanceRegistered()
+	{
+		InstanceRegistry instanceRegistry = new InstanceRegistry();
+		GenderExistence instance = new GenderExistence();
+		instanceRegistry.register(GenderExistence.class, instance);
+
+		GenderExistence actual = instanceRegistry.getInstance(GenderExistence.class, GenderExistence::new);
+
+		assertThat(actual).isSameAs(instance);
+	}
+}
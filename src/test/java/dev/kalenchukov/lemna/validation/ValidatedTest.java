@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link Validated}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidatedTest
+{
+	/**
+	 * Проверка метода {@link Validated#isValid()}.
+	 */
+	@Test
+	public void isValid()
+	{
+		Validated<String> validated = new Validated<>("value", List.of());
+
+		assertThat(validated.isValid()).isTrue();
+	}
+
+	/**
+	 * Проверка метода {@link Validated#isValid()} с нарушениями.
+	 */
+	@Test
+	public void isValidFalse()
+	{
+		Validated<String> validated = new Validated<>(
+			"value",
+			List.of(new Violation("field", "message", Map.of()))
+		);
+
+		assertThat(validated.isValid()).isFalse();
+		assertThat(validated.getViolations().size()).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link Validated#equals(Object)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		Validated<String> validated1 = new Validated<>("value", List.of(new Violation("field", "message", Map.of())));
+		Validated<String> validated2 = new Validated<>("value", List.of(new Violation("field", "message", Map.of())));
+
+		assertThat(validated1).isEqualTo(validated2);
+		assertThat(validated1.hashCode()).isEqualTo(validated2.hashCode());
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.constraints.Length;
+import dev.kalenchukov.lemna.validation.supports.existences.AnyExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.ColorExistence;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ValidatingProcessor}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidatingProcessorTest
+{
+	/**
+	 * Проверка с сохранением порядка элементов.
+	 */
+	@Test
+	public void processOrdered() throws Exception
+	{
+		class Experimental
+		{
+			@Exist(existence = ColorExistence.class)
+			private String variable1;
+
+			@Length(max = 3)
+			private String variable2;
+
+			Experimental(String variable1, String variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Validated<Experimental>> actual = new CopyOnWriteArrayList<>();
+		CompletableFuture<Void> completed = new CompletableFuture<>();
+
+		try (SubmissionPublisher<Experimental> publisher = new SubmissionPublisher<>())
+		{
+			ValidatingProcessor<Experimental> processor = new ValidatingProcessor<>(
+				validationEngine, executor, 4, true
+			);
+
+			publisher.subscribe(processor);
+			processor.subscribe(new Flow.Subscriber<>()
+			{
+				@Override
+				public void onSubscribe(Flow.Subscription subscription)
+				{
+					subscription.request(Long.MAX_VALUE);
+				}
+
+				@Override
+				public void onNext(Validated<Experimental> item)
+				{
+					actual.add(item);
+				}
+
+				@Override
+				public void onError(Throwable throwable)
+				{
+					completed.completeExceptionally(throwable);
+				}
+
+				@Override
+				public void onComplete()
+				{
+					completed.complete(null);
+				}
+			});
+
+			int existCalls = ColorExistence.EXIST_CALLS.get();
+			List<Experimental> objects = new ArrayList<>();
+
+			for (int index = 0; index < 100; index++)
+			{
+				Experimental object = new Experimental(index % 2 == 0 ? "RED" : "GREEN", "v".repeat(index % 5));
+				objects.add(object);
+				publisher.submit(object);
+			}
+
+			publisher.close();
+			completed.get(10, TimeUnit.SECONDS);
+
+			assertThat(ColorExistence.EXIST_CALLS.get() - existCalls).isEqualTo(0);
+			assertThat(actual.size()).isEqualTo(objects.size());
+
+			for (int index = 0; index < objects.size(); index++)
+			{
+				assertThat(actual.get(index).getValue()).isSameAs(objects.get(index));
+				assertThat(actual.get(index).getViolations()).isEqualTo(validationEngine.validate(objects.get(index)));
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка с ошибкой при проверке элемента.
+	 */
+	@Test
+	public void processError() throws Exception
+	{
+		class Experimental
+		{
+			@Exist(existence = AnyExistence.class)
+			private Object variable = new Object()
+			{
+				@Override
+				public int hashCode()
+				{
+					throw new AssertionError();
+				}
+			};
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setExistenceCache(new ExistenceCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CompletableFuture<Throwable> failed = new CompletableFuture<>();
+
+		try (SubmissionPublisher<Experimental> publisher = new SubmissionPublisher<>())
+		{
+			ValidatingProcessor<Experimental> processor = new ValidatingProcessor<>(
+				validationEngine, executor, 4, true
+			);
+
+			publisher.subscribe(processor);
+			processor.subscribe(new Flow.Subscriber<>()
+			{
+				@Override
+				public void onSubscribe(Flow.Subscription subscription)
+				{
+					subscription.request(Long.MAX_VALUE);
+				}
+
+				@Override
+				public void onNext(Validated<Experimental> item)
+				{
+					failed.completeExceptionally(new IllegalStateException());
+				}
+
+				@Override
+				public void onError(Throwable throwable)
+				{
+					failed.complete(throwable);
+				}
+
+				@Override
+				public void onComplete()
+				{
+					failed.completeExceptionally(new IllegalStateException());
+				}
+			});
+
+			publisher.submit(new Experimental());
+			publisher.close();
+
+			assertThat(failed.get(10, TimeUnit.SECONDS)).isInstanceOf(AssertionError.class);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка запроса элементов у источника по запросу подписчика.
+	 */
+	@Test
+	public void processBackpressure()
+	{
+		class Experimental
+		{
+			@Length(max = 3)
+			private String variable = "value";
+		}
+
+		AtomicLong upstreamRequested = new AtomicLong();
+		List<Validated<Experimental>> actual = new ArrayList<>();
+		List<Flow.Subscription> subscriptions = new ArrayList<>();
+		boolean[] completed = new boolean[1];
+
+		ValidatingProcessor<Experimental> processor = new ValidatingProcessor<>(
+			new ValidationEngine(), Runnable::run, 4, true
+		);
+
+		processor.onSubscribe(new Flow.Subscription()
+		{
+			@Override
+			public void request(long n)
+			{
+				upstreamRequested.addAndGet(n);
+			}
+
+			@Override
+			public void cancel() { }
+		});
+
+		processor.subscribe(new Flow.Subscriber<>()
+		{
+			@Override
+			public void onSubscribe(Flow.Subscription subscription)
+			{
+				subscriptions.add(subscription);
+			}
+
+			@Override
+			public void onNext(Validated<Experimental> item)
+			{
+				actual.add(item);
+			}
+
+			@Override
+			public void onError(Throwable throwable) { }
+
+			@Override
+			public void onComplete()
+			{
+				completed[0] = true;
+			}
+		});
+
+		assertThat(upstreamRequested.get()).isEqualTo(0L);
+
+		subscriptions.get(0).request(2);
+
+		assertThat(upstreamRequested.get()).isEqualTo(2L);
+
+		processor.onNext(new Experimental());
+		processor.onNext(new Experimental());
+
+		assertThat(upstreamRequested.get()).isEqualTo(2L);
+		assertThat(actual.size()).isEqualTo(2);
+		assertThat(actual.get(0).isValid()).isFalse();
+
+		subscriptions.get(0).request(10);
+
+		assertThat(upstreamRequested.get()).isEqualTo(6L);
+
+		processor.onComplete();
+
+		assertThat(completed[0]).isTrue();
+	}
+}
@@ -0,0 +1,989 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.constraints.Length;
+import dev.kalenchukov.lemna.validation.constraints.Localization;
+import dev.kalenchukov.lemna.validation.constraints.NoNull;
+import dev.kalenchukov.lemna.validation.constraints.Number;
+import dev.kalenchukov.lemna.validation.constraints.NumberFloat;
+import dev.kalenchukov.lemna.validation.exceptions.InvalidExistenceClassException;
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.supports.existences.ColorExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.FailingExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.GateExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.LatchExistence;
+import dev.kalenchukov.lemna.validation.supports.logs.LogCapture;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ValidationEngine}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidationEngineTest
+{
+	/**
+	 * Проверка метода {@link ValidationEngine#validate(Object)} с разными объектами.
+	 */
+	@Test
+	public void validateManyObjects()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable;
+
+			Experimental(String variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		List<Violating> violation1 = validationEngine.validate(new Experimental("value"));
+		List<Violating> violation2 = validationEngine.validate(new Experimental("ru-RU"));
+
+		assertThat(violation1.size()).isEqualTo(1);
+		assertThat(violation2.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setPushy(boolean)} со значением {@code false}.
+	 */
+	@Test
+	public void validatePushyFalse()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable1 = "value";
+
+			@Localization
+			private String variable2 = "VALUE";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setPushy(false);
+		List<Violating> violation = validationEngine.validate(new Experimental());
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validate(Object)} из нескольких потоков.
+	 */
+	@Test
+	public void validateConcurrent() throws Exception
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private Integer variable;
+
+			Experimental(Integer variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try
+		{
+			List<Future<List<Violating>>> futures = new ArrayList<>();
+
+			for (int index = -500; index < 500; index++)
+			{
+				final int value = index;
+
+				futures.add(executor.submit(
+					() -> validationEngine.validate(new Experimental(value))
+				));
+			}
+
+			for (int index = 0; index < futures.size(); index++)
+			{
+				int value = index - 500;
+				List<Violating> violations = futures.get(index).get();
+
+				if (value < 0)
+				{
+					assertThat(violations.get(0).getMessage()).isEqualTo("Значение поля '%FIELD%' должно быть больше %MIN%.");
+				}
+				else if (value > 100)
+				{
+					assertThat(violations.get(0).getMessage()).isEqualTo("Значение поля '%FIELD%' должно быть меньше %MAX%.");
+				}
+				else
+				{
+					assertThat(violations.size()).isEqualTo(0);
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#getPlan(Class)} с повторным вызовом для одного класса.
+	 */
+	@Test
+	public void getPlanSameClass()
+	{
+		class Experimental
+		{
+			@NoNull
+			private String variable = "value";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		ValidationPlan plan1 = validationEngine.getPlan(Experimental.class);
+		ValidationPlan plan2 = validationEngine.getPlan(Experimental.class);
+
+		assertThat(plan1).isSameAs(plan2);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setCompiled(boolean)} со значением {@code true}.
+	 */
+	@Test
+	public void validateCompiled()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 5)
+			private String variable1;
+
+			@Number(min = 0, max = 100)
+			private int variable2;
+
+			Experimental(String variable1, int variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		ValidationEngine compiledEngine = new ValidationEngine();
+		compiledEngine.setCompiled(true);
+
+		List<Experimental> objects = List.of(
+			new Experimental("value", 50),
+			new Experimental(null, 50),
+			new Experimental("values", 150),
+			new Experimental("", -1)
+		);
+
+		for (Experimental object : objects)
+		{
+			List<Violating> expected = validationEngine.validate(object);
+			List<Violating> actual = compiledEngine.validate(object);
+
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setTracing(boolean)} со значением {@code false}.
+	 */
+	@Test
+	public void validateNoTracing()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 5)
+			private String variable1;
+
+			@Number(min = 0, max = 100)
+			private int variable2;
+
+			Experimental(String variable1, int variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		ValidationEngine silentEngine = new ValidationEngine();
+		silentEngine.setTracing(false);
+
+		MessageCatalog messageCatalog = MessageCatalog.getInstance(new Locale("ru", "RU"));
+		String started = String.format(messageCatalog.getLog("00001"), Experimental.class.getName());
+		String finished = String.format(messageCatalog.getLog("00002"), Experimental.class.getName());
+		String traced = String.format(messageCatalog.getLog("00003"), "variable1", "NoNull");
+
+		List<Experimental> objects = List.of(
+			new Experimental("value", 50),
+			new Experimental(null, 50),
+			new Experimental("values", 150)
+		);
+
+		for (Experimental object : objects)
+		{
+			List<Violating> expected;
+			List<Violating> actual;
+
+			try (LogCapture logCapture = new LogCapture(ValidationEngine.class))
+			{
+				expected = validationEngine.validate(object);
+
+				assertThat(logCapture.getMessages()).contains(started, traced, finished);
+			}
+
+			try (LogCapture logCapture = new LogCapture(ValidationEngine.class))
+			{
+				actual = silentEngine.validate(object);
+
+				assertThat(logCapture.getMessages()).containsExactly(started, finished);
+			}
+
+			assertThat(silentEngine.isTracing()).isFalse();
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validate(Object)} с корректным объектом без выделения памяти.
+	 */
+	@Test
+	public void validateAllocationFree() throws Exception
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 10)
+			private String variable1 = "value";
+
+			@Number(min = 0, max = 100)
+			private int variable2 = 50;
+
+			@Number(min = 0, max = 100)
+			private Long variable3 = 50L;
+
+			@NumberFloat(min = 0.0, max = 100.0)
+			private double variable4 = 50.5;
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		Experimental experimental = new Experimental();
+
+		for (int index = 0; index < 10_000; index++)
+		{
+			validationEngine.validate(experimental);
+		}
+
+		long before = ValidationEngineTest.getAllocatedBytes();
+
+		for (int index = 0; index < 100_000; index++)
+		{
+			validationEngine.validate(experimental);
+		}
+
+		long after = ValidationEngineTest.getAllocatedBytes();
+
+		assertThat(validationEngine.validate(experimental)).isSameAs(Collections.emptyList());
+		assertThat(after - before).isLessThan(100_000L);
+	}
+
+	/**
+	 * Возвращает количество байт, выделенных текущим потоком.
+	 * Модуль {@code java.management} не читается модулем библиотеки,
+	 * поэтому методы вызываются через рефлексию.
+	 *
+	 * @return количество байт.
+	 */
+	private static long getAllocatedBytes() throws Exception
+	{
+		Object threadBean = Class.forName("java.lang.management.ManagementFactory")
+			.getMethod("getThreadMXBean")
+			.invoke(null);
+
+		Method method = Class.forName("com.sun.management.ThreadMXBean")
+			.getMethod("getThreadAllocatedBytes", long.class);
+
+		return (long) method.invoke(threadBean, Thread.currentThread().getId());
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#isValid(Object)}.
+	 */
+	@Test
+	public void isValid()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 5)
+			private String variable1;
+
+			@Number(min = 0, max = 100)
+			private int variable2;
+
+			@Localization
+			private String variable3;
+
+			Experimental(String variable1, int variable2, String variable3)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+				this.variable3 = variable3;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		assertThat(validationEngine.isValid(new Experimental("value", 50, "ru-RU"))).isTrue();
+		assertThat(validationEngine.isValid(new Experimental(null, 50, "ru-RU"))).isFalse();
+		assertThat(validationEngine.isValid(new Experimental("value", 150, "ru-RU"))).isFalse();
+		assertThat(validationEngine.isValid(new Experimental("value", 50, "value"))).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#isValid(Object)} в сравнении с {@link ValidationEngine#validate(Object)}.
+	 */
+	@Test
+	public void isValidSameAsValidate()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private Integer variable1;
+
+			@Number(min = 0, max = 100)
+			private long variable2;
+
+			Experimental(Integer variable1, long variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		for (int index = -10; index <= 110; index += 10)
+		{
+			Experimental experimental = new Experimental(index, 100 - index);
+
+			assertThat(validationEngine.isValid(experimental)).isEqualTo(validationEngine.validate(experimental).isEmpty());
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAll(java.util.Collection)}.
+	 */
+	@Test
+	public void validateAll()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable;
+
+			Experimental(String variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		List<List<Violating>> violations = validationEngine.validateAll(List.of(
+			new Experimental("value"),
+			new Experimental("ru-RU"),
+			new Experimental("VALUE")
+		));
+
+		assertThat(violations.size()).isEqualTo(3);
+		assertThat(violations.get(0).size()).isEqualTo(1);
+		assertThat(violations.get(1).size()).isEqualTo(0);
+		assertThat(violations.get(2).size()).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAll(java.util.Collection)} с пакетной проверкой существования.
+	 */
+	@Test
+	public void validateAllBatchExistence()
+	{
+		class Experimental
+		{
+			@Exist(existence = ColorExistence.class)
+			private String variable1;
+
+			@Exist(existence = ColorExistence.class)
+			private String variable2;
+
+			Experimental(String variable1, String variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		List<Experimental> objects = new ArrayList<>();
+
+		for (int index = 0; index < 1000; index++)
+		{
+			objects.add(new Experimental(index % 2 == 0 ? "RED" : "BLUE", null));
+		}
+
+		objects.add(new Experimental("GREEN", "WHITE"));
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		int existCalls = ColorExistence.EXIST_CALLS.get();
+		int existingCalls = ColorExistence.EXISTING_CALLS.get();
+
+		List<List<Violating>> violations = validationEngine.validateAll(objects);
+
+		assertThat(ColorExistence.EXISTING_CALLS.get() - existingCalls).isEqualTo(1);
+		assertThat(ColorExistence.EXIST_CALLS.get() - existCalls).isEqualTo(0);
+		assertThat(violations.get(0).size()).isEqualTo(0);
+		assertThat(violations.get(1).size()).isEqualTo(1);
+		assertThat(violations.get(1000).size()).isEqualTo(1);
+		assertThat(violations.get(1000).get(0).getField()).isEqualTo("variable2");
+
+		for (int index = 0; index < violations.size(); index++)
+		{
+			assertThat(violations.get(index)).isEqualTo(validationEngine.validate(objects.get(index)));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAll(java.util.Collection)} с пакетной проверкой
+	 * существования для ограничений с разным кэшированием.
+	 */
+	@Test
+	public void validateAllBatchExistenceCached()
+	{
+		class Experimental
+		{
+			@Exist(existence = ColorExistence.class)
+			private String variable1 = "BLUE";
+
+			@Exist(existence = ColorExistence.class, cached = false)
+			private String variable2 = "BLUE";
+		}
+
+		ExistenceCache existenceCache = new ExistenceCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		existenceCache.put(ColorExistence.class, "BLUE", true);
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setExistenceCache(existenceCache);
+
+		int existingCalls = ColorExistence.EXISTING_CALLS.get();
+
+		List<List<Violating>> violations = validationEngine.validateAll(List.of(new Experimental(), new Experimental()));
+
+		assertThat(ColorExistence.EXISTING_CALLS.get() - existingCalls).isEqualTo(1);
+		assertThat(violations.get(0).size()).isEqualTo(1);
+		assertThat(violations.get(0).get(0).getField()).isEqualTo("variable2");
+		assertThat(violations.get(1)).isEqualTo(violations.get(0));
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAll(java.util.Collection)} с исключением
+	 * в классе пакетной проверки существования.
+	 */
+	@Test
+	public void validateAllBatchExistenceThrowing()
+	{
+		class Experimental
+		{
+			@Exist(existence = FailingExistence.class)
+			private String variable = "value";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		assertThatExceptionOfType(InvalidExistenceClassException.class).isThrownBy(() -> {
+			validationEngine.validateAll(List.of(new Experimental(), new Experimental()));
+		}).withCauseInstanceOf(IllegalArgumentException.class);
+
+		assertThatExceptionOfType(InvalidExistenceClassException.class).isThrownBy(() -> {
+			validationEngine.validate(new Experimental());
+		}).withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setExistenceCache(ExistenceCache)}.
+	 */
+	@Test
+	public void setExistenceCache()
+	{
+		class Experimental
+		{
+			@Exist(existence = ColorExistence.class)
+			private String variable = "BLUE";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		assertThat(validationEngine.validate(new Experimental()).size()).isEqualTo(1);
+
+		ExistenceCache existenceCache = new ExistenceCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		existenceCache.put(ColorExistence.class, "BLUE", true);
+		validationEngine.setExistenceCache(existenceCache);
+
+		assertThat(validationEngine.getExistenceCache()).isSameAs(existenceCache);
+		assertThat(validationEngine.getInstanceRegistry().getRegistered(ExistenceCache.class)).isNull();
+		assertThat(validationEngine.validate(new Experimental()).size()).isEqualTo(0);
+
+		validationEngine.setExistenceCache(null);
+
+		assertThat(validationEngine.getExistenceCache()).isNull();
+		assertThat(validationEngine.validate(new Experimental()).size()).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAll(Object[])} с параллельной проверкой.
+	 */
+	@Test
+	public void validateAllParallel()
+	{
+		class Experimental
+		{
+			@Exist(existence = ColorExistence.class)
+			private String variable1;
+
+			@Number(min = 0, max = 100)
+			private int variable2;
+
+			Experimental(String variable1, int variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		Experimental[] objects = new Experimental[1000];
+
+		for (int index = 0; index < objects.length; index++)
+		{
+			objects[index] = new Experimental(index % 3 == 0 ? "GREEN" : "RED", index % 150);
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setParallelThreshold(10);
+
+		int existCalls = ColorExistence.EXIST_CALLS.get();
+		int existingCalls = ColorExistence.EXISTING_CALLS.get();
+
+		List<List<Violating>> violations = validationEngine.validateAll(objects);
+
+		assertThat(ColorExistence.EXISTING_CALLS.get() - existingCalls).isEqualTo(1);
+		assertThat(ColorExistence.EXIST_CALLS.get() - existCalls).isEqualTo(0);
+		assertThat(violations.size()).isEqualTo(objects.length);
+
+		for (int index = 0; index < objects.length; index++)
+		{
+			assertThat(violations.get(index)).isEqualTo(validationEngine.validate(objects[index]));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setBlockingExecutor(java.util.concurrent.Executor)}.
+	 */
+	@Test
+	public void validateBlockingExecutor()
+	{
+		class Experimental
+		{
+			@Exist(existence = LatchExistence.class)
+			private String variable1 = "value";
+
+			@NoNull
+			@Exist(existence = LatchExistence.class)
+			private String variable2 = "";
+
+			@Length(max = 2)
+			private String variable3 = "value";
+
+			@Exist(existence = LatchExistence.class)
+			private String variable4 = "value";
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try
+		{
+			ValidationEngine validationEngine = new ValidationEngine();
+			validationEngine.setBlockingExecutor(executor);
+			validationEngine.setBlockingConcurrency(3);
+
+			LatchExistence.LATCH = new CountDownLatch(3);
+
+			List<Violating> violations = validationEngine.validate(new Experimental());
+
+			assertThat(violations.size()).isEqualTo(2);
+			assertThat(violations.get(0).getField()).isEqualTo("variable2");
+			assertThat(violations.get(1).getField()).isEqualTo("variable3");
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setBlockingExecutor(java.util.concurrent.Executor)}
+	 * с повторяющимися ограничениями.
+	 */
+	@Test
+	public void validateBlockingExecutorRepeatable()
+	{
+		class Experimental
+		{
+			@Exist(existence = LatchExistence.class)
+			@Exist(existence = LatchExistence.class)
+			private String variable1 = "value";
+
+			@Exist(existence = LatchExistence.class)
+			@Exist(existence = LatchExistence.class)
+			private String variable2 = "value";
+
+			@Exist(existence = LatchExistence.class)
+			@Exist(existence = LatchExistence.class)
+			private String variable3 = "";
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try
+		{
+			ValidationEngine validationEngine = new ValidationEngine();
+			validationEngine.setBlockingExecutor(executor);
+			validationEngine.setBlockingConcurrency(3);
+
+			LatchExistence.LATCH = new CountDownLatch(3);
+			LatchExistence.THREADS.clear();
+
+			List<Violating> violations = validationEngine.validate(new Experimental());
+
+			assertThat(violations.size()).isEqualTo(1);
+			assertThat(violations.get(0).getField()).isEqualTo("variable3");
+			assertThat(LatchExistence.THREADS).hasSize(3);
+			assertThat(LatchExistence.THREADS).doesNotContain(Thread.currentThread());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setBlockingConcurrency(int)} с некорректным значением.
+	 */
+	@Test
+	public void setBlockingConcurrencyInvalid()
+	{
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+			validationEngine.setBlockingConcurrency(0);
+		});
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAsync(Object)}.
+	 */
+	@Test
+	public void validateAsync()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 5)
+			private String variable1;
+
+			@Number(min = 0, max = 100)
+			private int variable2;
+
+			Experimental(String variable1, int variable2)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		ValidationEngine notPushyEngine = new ValidationEngine();
+		notPushyEngine.setPushy(false);
+
+		List<Experimental> objects = List.of(
+			new Experimental("value", 50),
+			new Experimental(null, 150),
+			new Experimental("values", -1)
+		);
+
+		for (Experimental object : objects)
+		{
+			assertThat(validationEngine.validateAsync(object).join()).isEqualTo(validationEngine.validate(object));
+			assertThat(notPushyEngine.validateAsync(object).join()).isEqualTo(notPushyEngine.validate(object));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAsync(Object)} с ненастырной проверкой.
+	 */
+	@Test
+	public void validateAsyncNotPushy()
+	{
+		class Experimental
+		{
+			@Exist(existence = GateExistence.class)
+			private String variable1 = "";
+
+			@Exist(existence = GateExistence.class)
+			private String variable2 = "value";
+
+			@NoNull
+			private String variable3 = null;
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setPushy(false);
+
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		GateExistence.GATE = gate;
+
+		int calls = GateExistence.CALLS.get();
+
+		CompletableFuture<List<Violating>> actual = validationEngine.validateAsync(new Experimental());
+
+		assertThat(GateExistence.CALLS.get() - calls).isEqualTo(1);
+		assertThat(actual.isDone()).isFalse();
+
+		gate.complete(null);
+
+		assertThat(actual.join().size()).isEqualTo(1);
+		assertThat(actual.join().get(0).getField()).isEqualTo("variable1");
+		assertThat(GateExistence.CALLS.get() - calls).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validateAsync(Object)} с ненастырной проверкой
+	 * и нарушением до асинхронной проверки.
+	 */
+	@Test
+	public void validateAsyncNotPushyInline()
+	{
+		class Experimental
+		{
+			@NoNull
+			private String variable1 = null;
+
+			@Exist(existence = GateExistence.class)
+			private String variable2 = "value";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setPushy(false);
+
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		GateExistence.GATE = gate;
+
+		try
+		{
+			int calls = GateExistence.CALLS.get();
+
+			CompletableFuture<List<Violating>> actual = validationEngine.validateAsync(new Experimental());
+
+			assertThat(actual.isDone()).isTrue();
+			assertThat(actual.join().size()).isEqualTo(1);
+			assertThat(actual.join().get(0).getField()).isEqualTo("variable1");
+			assertThat(GateExistence.CALLS.get() - calls).isEqualTo(0);
+		}
+		finally
+		{
+			gate.complete(null);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#asPredicate()}.
+	 */
+	@Test
+	public void asPredicate()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private int variable;
+
+			Experimental(int variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		long actual = Stream.of(new Experimental(50), new Experimental(150), new Experimental(0))
+			.filter(validationEngine.asPredicate())
+			.count();
+
+		assertThat(actual).isEqualTo(2L);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#partitioningBy()}.
+	 */
+	@Test
+	public void partitioningBy()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private int variable;
+
+			Experimental(int variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		Map<Boolean, List<Validated<Experimental>>> actual = Stream.of(
+			new Experimental(50), new Experimental(150), new Experimental(-1)
+		).collect(validationEngine.partitioningBy());
+
+		assertThat(actual.get(true).size()).isEqualTo(1);
+		assertThat(actual.get(true).get(0).getViolations()).isEmpty();
+		assertThat(actual.get(false).size()).isEqualTo(2);
+		assertThat(actual.get(false).get(0).getViolations().size()).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validated(Stream)} с бесконечным потоком.
+	 */
+	@Test
+	public void validatedStream()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private int variable;
+
+			Experimental(int variable)
+			{
+				this.variable = variable;
+			}
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		List<Validated<Experimental>> actual = validationEngine.validated(Stream.iterate(0, index -> index + 1)
+				.map(index -> new Experimental(index * 50)))
+			.limit(5)
+			.toList();
+
+		assertThat(actual.size()).isEqualTo(5);
+
+		for (Validated<Experimental> validated : actual)
+		{
+			assertThat(validated.getViolations()).isEqualTo(validationEngine.validate(validated.getValue()));
+		}
+
+		assertThat(actual.get(2).isValid()).isTrue();
+		assertThat(actual.get(3).isValid()).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#setParallelThreshold(int)} с некорректным значением.
+	 */
+	@Test
+	public void setParallelThresholdInvalid()
+	{
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+			validationEngine.setParallelThreshold(0);
+		});
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validate(Object, ViolationSink)} с остановкой проверки.
+	 */
+	@Test
+	public void validateSinkStop()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable1 = "value";
+
+			@Localization
+			private String variable2 = "VALUE";
+
+			@Number(min = 0, max = 100)
+			private int variable3 = 150;
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		List<String> fields = new ArrayList<>();
+		List<Class<?>> constraints = new ArrayList<>();
+		List<String> codes = new ArrayList<>();
+
+		boolean actual = validationEngine.validate(new Experimental(), (field, constraint, violation) -> {
+			fields.add(field.getName());
+			constraints.add(constraint);
+			codes.add(violation.getCode());
+
+			return fields.size() < 2;
+		});
+
+		assertThat(actual).isFalse();
+		assertThat(fields).isEqualTo(List.of("variable1", "variable2"));
+		assertThat(constraints).isEqualTo(List.of(Localization.class, Localization.class));
+		assertThat(codes).isEqualTo(List.of("90015", "90015"));
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation;
+
+import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.constraints.Length;
+import dev.kalenchukov.lemna.validation.constraints.NoNull;
+import dev.kalenchukov.lemna.validation.constraints.Number;
+import dev.kalenchukov.lemna.validation.repositories.ValidatorRepository;
+import dev.kalenchukov.lemna.validation.supports.existences.GenderExistence;
+import dev.kalenchukov.lemna.validation.validators.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ValidationPlan}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidationPlanTest
+{
+	/**
+	 * Коллекция проверяющих.
+	 */
+	private static final ValidatorRepository REPOSITORY = ValidatorRepository.getInstance(new Locale("ru", "RU"));
+
+	/**
+	 * Проверка метода {@link ValidationPlan#getFields()} с полями без аннотаций.
+	 */
+	@Test
+	public void getFieldsOnlyAnnotated()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(max = 10)
+			private String variable1 = "value";
+
+			private String variable2 = "value";
+
+			@Deprecated
+			private String variable3 = "value";
+		}
+
+		ValidationPlan.FieldPlan[] fields = new ValidationPlan(Experimental.class, REPOSITORY).getFields();
+
+		assertThat(fields.length).isEqualTo(1);
+		assertThat(fields[0].getField().getName()).isEqualTo("variable1");
+		assertThat(fields[0].getConstraints().length).isEqualTo(2);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan#isBlocking()} с повторяющимися ограничениями.
+	 */
+	@Test
+	public void isBlockingRepeatable()
+	{
+		class Experimental
+		{
+			@NoNull
+			private String variable1 = "value";
+
+			@Exist(existence = GenderExistence.class)
+			@Exist(existence = GenderExistence.class)
+			private String variable2 = "MALE";
+		}
+
+		ValidationPlan plan = new ValidationPlan(Experimental.class, REPOSITORY);
+		ValidationPlan.FieldPlan[] fields = plan.getFields();
+
+		assertThat(plan.isBlocking()).isTrue();
+		assertThat(fields[0].getConstraints()[0].isBlocking()).isFalse();
+		assertThat(fields[1].getConstraints()[0].isBlocking()).isTrue();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.FieldPlan#getValue(Object)}.
+	 */
+	@Test
+	public void getValue()
+	{
+		class Experimental
+		{
+			@NoNull
+			private int variable = 13;
+		}
+
+		ValidationPlan.FieldPlan[] fields = new ValidationPlan(Experimental.class, REPOSITORY).getFields();
+
+		Object actual = fields[0].getValue(new Experimental());
+
+		assertThat(actual).isEqualTo(13);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.FieldPlan#getLong(Object)}.
+	 */
+	@Test
+	public void getLong()
+	{
+		class Experimental
+		{
+			@Number(min = 0)
+			private long variable = 13L;
+		}
+
+		ValidationPlan.FieldPlan[] fields = new ValidationPlan(Experimental.class, REPOSITORY).getFields();
+
+		assertThat(fields[0].isPrimitive()).isTrue();
+		assertThat(fields[0].getLong(new Experimental())).isEqualTo(13L);
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.FieldPlan#isPrimitive()} с полем типа {@code short}.
+	 */
+	@Test
+	public void isPrimitiveShort()
+	{
+		class Experimental
+		{
+			@Number(min = 0)
+			private short variable = 13;
+		}
+
+		ValidationPlan.FieldPlan[] fields = new ValidationPlan(Experimental.class, REPOSITORY).getFields();
+
+		assertThat(fields[0].isPrimitive()).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.FieldPlan#getValue(Object)} со статическим полем.
+	 */
+	@Test
+	public void getValueStatic()
+	{
+		ValidationPlan.FieldPlan[] fields = new ValidationPlan(StaticExperimental.class, REPOSITORY).getFields();
+
+		Object actual = fields[0].getValue(new StaticExperimental());
+
+		assertThat(actual).isEqualTo("value");
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.ConstraintPlan#getCheck()}.
+	 */
+	@Test
+	public void getCheck()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private int variable = 13;
+		}
+
+		Predicate<Object> check = new ValidationPlan(Experimental.class, REPOSITORY)
+			.getFields()[0].getConstraints()[0].getCheck();
+
+		assertThat(check).isNotNull();
+		assertThat(check.test(50)).isTrue();
+		assertThat(check.test(-1)).isFalse();
+		assertThat(check.test(101)).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.ConstraintPlan#getValidator()}.
+	 */
+	@Test
+	public void getValidator()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private int variable = 13;
+		}
+
+		ValidationPlan.FieldPlan fieldPlan = new ValidationPlan(Experimental.class, REPOSITORY).getFields()[0];
+		Validator validator = fieldPlan.getConstraints()[0].getValidator();
+
+		assertThat(validator).isNotSameAs(REPOSITORY.getValidator(Number.class.getName()));
+		assertThat(validator.validInt(fieldPlan.getField(), 50)).isNull();
+		assertThat(validator.validInt(fieldPlan.getField(), 150)).isNotNull();
+	}
+
+	/**
+	 * Проверка метода {@link ValidationPlan.ConstraintPlan#getCheck()} с неподдерживаемым типом поля.
+	 */
+	@Test
+	public void getCheckUnsupportedType()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 100)
+			private Object variable = 13;
+		}
+
+		Predicate<Object> check = new ValidationPlan(Experimental.class, REPOSITORY)
+			.getFields()[0].getConstraints()[0].getCheck();
+
+		assertThat(check).isNull();
+	}
+
+	/**
+	 * Класс со статическим полем.
+	 */
+	private static class StaticExperimental
+	{
+		@NoNull
+		private static String variable = "value";
+	}
+}
@@ -21,6 +21,7 @@ package dev.kalenchukov.lemna.validation;
 import dev.kalenchukov.lemna.validation.constraints.Localization;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,4 +106,70 @@ public class ValidationTest
 
 		assertThat(actualMessage).isEqualTo("Некорректный формат локализации в поле класса '%FIELD%'");
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка метода {@link Validation#isValid()}.
+	 */
+	@Test
+	public void isValid()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable1 = "ru-RU";
+
+			@Localization
+			private String variable2 = "VALUE";
+		}
+
+		Validating validation = new Validation(new Experimental());
+
+		assertThat(validation.isValid()).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link Validation#validate(ViolationSink)}.
+	 */
+	@Test
+	public void validateSink()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable1 = "value";
+
+			@Localization
+			private String variable2 = "VALUE";
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violations = new ArrayList<>();
+
+		boolean actual = validation.validate((field, constraint, violation) -> violations.add(violation));
+
+		assertThat(actual).isTrue();
+		assertThat(violations).isEqualTo(validation.validate());
+	}
+
+	/**
+	 * Проверка метода {@link Validation#validateAsync()}.
+	 */
+	@Test
+	public void validateAsync()
+	{
+		class Experimental
+		{
+			@Localization
+			private String variable1 = "value";
+
+			@Localization
+			private String variable2 = "VALUE";
+		}
+
+		Validating validation = new Validation(new Experimental());
+
+		List<Violating> actual = validation.validateAsync().join();
+
+		assertThat(actual).isEqualTo(validation.validate());
+	}
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -120,4 +121,47 @@ public class ViolationTest
 			assertThat(actualHashCode).isNotEqualTo(expectedHashCode);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link Violation#getMessage()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class GetMessage
+	{
+		/**
+		 * Проверка метода {@link Violation#getMessage()} с отложенным формированием сообщения.
+		 */
+		@Test
+		public void testGetMessageLazy()
+		{
+			AtomicInteger calls = new AtomicInteger();
+
+			Violating violation = new Violation("id", () -> {
+				calls.incrementAndGet();
+				return "Сообщение";
+			}, Map.of("%FIELD%", "id"));
+
+			assertThat(calls.get()).isEqualTo(0);
+			assertThat(violation.getMessage()).isEqualTo("Сообщение");
+			assertThat(violation.getMessage()).isEqualTo("Сообщение");
+			assertThat(calls.get()).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка метода {@link Violation#equals(Object)} с отложенным формированием сообщения.
+		 */
+		@Test
+		public void testEqualsLazy()
+		{
+			Map<String, String> params = Map.of("%FIELD%", "id");
+
+			Violating violation1 = new Violation("id", "Сообщение", params);
+			Violating violation2 = new Violation("id", () -> "Сообщение", params);
+
+			assertThat(violation1).isEqualTo(violation2);
+			assertThat(violation1.hashCode()).isEqualTo(violation2.hashCode());
+		}
+	}
+}
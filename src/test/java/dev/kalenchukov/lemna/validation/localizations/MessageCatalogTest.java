@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.localizations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link MessageCatalog}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MessageCatalogTest
+{
+	/**
+	 * Проверка метода {@link MessageCatalog#getInstance(Locale)} с одинаковой локализацией.
+	 */
+	@Test
+	public void getInstanceSameLocale()
+	{
+		MessageCatalog messageCatalog1 = MessageCatalog.getInstance(new Locale("ru", "RU"));
+		MessageCatalog messageCatalog2 = MessageCatalog.getInstance(new Locale("ru", "RU"));
+
+		assertThat(messageCatalog1).isSameAs(messageCatalog2);
+	}
+
+	/**
+	 * Проверка метода {@link MessageCatalog#getException(String)}.
+	 */
+	@Test
+	public void getException()
+	{
+		MessageCatalog messageCatalog = MessageCatalog.getInstance(new Locale("ru", "RU"));
+
+		String actual = messageCatalog.getException("20002");
+
+		assertThat(actual).isEqualTo("Некорректный класс проверки существования '%s'.");
+	}
+
+	/**
+	 * Проверка метода {@link MessageCatalog#getViolation(String)} с неизвестным кодом.
+	 */
+	@Test
+	public void getViolationUnknown()
+	{
+		MessageCatalog messageCatalog = MessageCatalog.getInstance(new Locale("ru", "RU"));
+
+		assertThatExceptionOfType(MissingResourceException.class).isThrownBy(() -> {
+			messageCatalog.getViolation("00000");
+		});
+	}
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.processing;
+
+import dev.kalenchukov.lemna.validation.ValidationEngine;
+import dev.kalenchukov.lemna.validation.Violating;
+import dev.kalenchukov.lemna.validation.localizations.MessageCatalog;
+import dev.kalenchukov.lemna.validation.supports.logs.LogCapture;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ValidationProcessor}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidationProcessorTest
+{
+	/**
+	 * Исходный код проверяемого класса.
+	 */
+	private static final String SOURCE = """
+		package experimental;
+
+		import dev.kalenchukov.lemna.validation.constraints.Length;
+		import dev.kalenchukov.lemna.validation.constraints.Localization;
+		import dev.kalenchukov.lemna.validation.constraints.NoNull;
+		import dev.kalenchukov.lemna.validation.constraints.Number;
+
+		public class Experimental
+		{
+			@NoNull
+			@Length(max = 5)
+			String variable1;
+
+			@Number(min = 0, max = 100)
+			int variable2;
+
+			@Localization
+			protected String variable3;
+
+			public Experimental(String variable1, int variable2, String variable3)
+			{
+				this.variable1 = variable1;
+				this.variable2 = variable2;
+				this.variable3 = variable3;
+			}
+		}
+		""";
+
+	/**
+	 * Проверка метода {@link ValidationProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)}.
+	 */
+	@Test
+	public void process() throws Exception
+	{
+		Path directory = Files.createTempDirectory("lemna");
+
+		try (URLClassLoader classLoader = ValidationProcessorTest.compile(directory, "Experimental", SOURCE))
+		{
+			GeneratedValidator<Object> generated = ValidationProcessorTest.getGenerated(classLoader);
+
+			Object object = ValidationProcessorTest.newExperimental(classLoader, "value", 50, "ru-RU");
+
+			assertThat(generated.getFields()).containsExactly("variable1", "variable2", "variable3");
+			assertThat(generated.getValue(object, 0)).isEqualTo("value");
+			assertThat(generated.getValue(object, 1)).isEqualTo(50);
+			assertThat(generated.getValue(object, 2)).isEqualTo("ru-RU");
+		}
+		finally
+		{
+			ValidationProcessorTest.delete(directory);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link GeneratedValidator#check(Object, int)} сгенерированного проверяющего.
+	 */
+	@Test
+	public void processCheck() throws Exception
+	{
+		Path directory = Files.createTempDirectory("lemna");
+
+		try (URLClassLoader classLoader = ValidationProcessorTest.compile(directory, "Experimental", SOURCE))
+		{
+			GeneratedValidator<Object> generated = ValidationProcessorTest.getGenerated(classLoader);
+
+			Object valid = ValidationProcessorTest.newExperimental(classLoader, "value", 50, "ru-RU");
+			Object invalid = ValidationProcessorTest.newExperimental(classLoader, null, 150, "ru-RU");
+
+			assertThat(generated.check(valid, 0)).isTrue();
+			assertThat(generated.check(valid, 1)).isTrue();
+			assertThat(generated.check(valid, 2)).isFalse();
+			assertThat(generated.check(invalid, 0)).isFalse();
+			assertThat(generated.check(invalid, 1)).isFalse();
+		}
+		finally
+		{
+			ValidationProcessorTest.delete(directory);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)}
+	 * с закрытым полем, имеющим метод чтения.
+	 */
+	@Test
+	public void processPrivateField() throws Exception
+	{
+		String source = """
+			package experimental;
+
+			import dev.kalenchukov.lemna.validation.constraints.NoNull;
+
+			public class Experimental
+			{
+				@NoNull
+				private String variable;
+
+				public String getVariable()
+				{
+					return this.variable == null ? "" : this.variable;
+				}
+			}
+			""";
+
+		Path directory = Files.createTempDirectory("lemna");
+
+		try (URLClassLoader classLoader = ValidationProcessorTest.compile(directory, "Experimental", source))
+		{
+			URL actual = classLoader.findResource("experimental/ExperimentalLemnaValidator.class");
+
+			assertThat(actual).isNull();
+		}
+		finally
+		{
+			ValidationProcessorTest.delete(directory);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)}
+	 * с повторной компиляцией в тот же каталог.
+	 */
+	@Test
+	public void processIncremental() throws Exception
+	{
+		String source = """
+			package experimental;
+
+			import dev.kalenchukov.lemna.validation.constraints.NoNull;
+
+			public class Other
+			{
+				@NoNull
+				String variable;
+			}
+			""";
+
+		Path directory = Files.createTempDirectory("lemna");
+
+		try
+		{
+			ValidationProcessorTest.compile(directory, "Experimental", SOURCE).close();
+			ValidationProcessorTest.compile(directory, "Other", source).close();
+
+			List<String> actual = Files.readAllLines(
+				directory.resolve("META-INF/services/" + GeneratedValidator.class.getName())
+			);
+
+			assertThat(actual).containsExactly(
+				"experimental.ExperimentalLemnaValidator",
+				"experimental.OtherLemnaValidator"
+			);
+		}
+		finally
+		{
+			ValidationProcessorTest.delete(directory);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ValidationEngine#validate(Object)} с сгенерированным проверяющим.
+	 */
+	@Test
+	public void validateGenerated() throws Exception
+	{
+		Path directory = Files.createTempDirectory("lemna");
+		MessageCatalog messageCatalog = MessageCatalog.getInstance(new Locale("ru", "RU"));
+		String traced = String.format(messageCatalog.getLog("00003"), "variable1", "NoNull");
+
+		try (URLClassLoader classLoader = ValidationProcessorTest.compile(directory, "Experimental", SOURCE);
+			 LogCapture logCapture = new LogCapture(ValidationEngine.class))
+		{
+			ValidationEngine validationEngine = new ValidationEngine();
+
+			List<Violating> violations1 = validationEngine.validate(
+				ValidationProcessorTest.newExperimental(classLoader, "value", 50, "ru-RU")
+			);
+
+			assertThat(violations1.size()).isEqualTo(0);
+			assertThat(logCapture.getMessages()).doesNotContain(traced);
+
+			List<Violating> violations2 = validationEngine.validate(
+				ValidationProcessorTest.newExperimental(classLoader, null, 150, "value")
+			);
+
+			assertThat(violations2.size()).isEqualTo(3);
+			assertThat(logCapture.getMessages()).contains(traced);
+		}
+		finally
+		{
+			ValidationProcessorTest.delete(directory);
+		}
+	}
+
+	/**
+	 * Компилирует исходный код класса пакета {@code experimental} с обработчиком аннотаций.
+	 *
+	 * @param directory каталог исходного кода и скомпилированных классов.
+	 * @param name название класса.
+	 * @param source исходный код.
+	 * @return загрузчик скомпилированных классов.
+	 */
+	private static URLClassLoader compile(Path directory, String name, String source) throws IOException
+	{
+		Path file = directory.resolve("experimental/" + name + ".java");
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, source);
+
+		String classPath = System.getProperty("java.class.path")
+			+ File.pathSeparator + System.getProperty("jdk.module.path", "")
+			+ File.pathSeparator + directory;
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null))
+		{
+			JavaCompiler.CompilationTask task = compiler.getTask(
+				null,
+				fileManager,
+				null,
+				List.of("-d", directory.toString(), "-s", directory.toString(), "-classpath", classPath),
+				null,
+				fileManager.getJavaFileObjects(file)
+			);
+			task.setProcessors(List.of(new ValidationProcessor()));
+
+			assertThat(task.call()).isTrue();
+		}
+
+		return new URLClassLoader(
+			new URL[]{directory.toUri().toURL()},
+			ValidationProcessorTest.class.getClassLoader()
+		);
+	}
+
+	/**
+	 * Удаляет каталог вместе с содержимым.
+	 *
+	 * @param directory каталог.
+	 */
+	private static void delete(Path directory) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+			{
+				Files.delete(path);
+			}
+		}
+	}
+
+	/**
+	 * Возвращает сгенерированного проверяющего класса {@code experimental.Experimental}.
+	 *
+	 * @param classLoader загрузчик скомпилированных классов.
+	 * @return сгенерированный проверяющий.
+	 */
+	@SuppressWarnings("unchecked")
+	private static GeneratedValidator<Object> getGenerated(ClassLoader classLoader) throws Exception
+	{
+		return (GeneratedValidator<Object>) classLoader.loadClass("experimental.ExperimentalLemnaValidator")
+			.getConstructor()
+			.newInstance();
+	}
+
+	/**
+	 * Создаёт объект класса {@code experimental.Experimental}.
+	 *
+	 * @param classLoader загрузчик скомпилированных классов.
+	 * @param variable1 значение первого поля.
+	 * @param variable2 значение второго поля.
+	 * @param variable3 значение третьего поля.
+	 * @return объект класса.
+	 */
+	private static Object newExperimental(ClassLoader classLoader,
+										  String variable1,
+										  int variable2,
+										  String variable3) throws Exception
+	{
+		return classLoader.loadClass("experimental.Experimental")
+			.getConstructor(String.class, int.class, String.class)
+			.newInstance(variable1, variable2, variable3);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.repositories;
+
+import dev.kalenchukov.lemna.validation.constraints.Length;
+import dev.kalenchukov.lemna.validation.constraints.NoNull;
+import dev.kalenchukov.lemna.validation.validators.NoNullValidator;
+import dev.kalenchukov.lemna.validation.validators.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ValidatorRepository}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ValidatorRepositoryTest
+{
+	/**
+	 * Проверка метода {@link ValidatorRepository#getInstance(Locale)} с одинаковой локализацией.
+	 */
+	@Test
+	public void getInstanceSameLocale()
+	{
+		ValidatorRepository repository1 = ValidatorRepository.getInstance(new Locale("ru", "RU"));
+		ValidatorRepository repository2 = ValidatorRepository.getInstance(new Locale("ru", "RU"));
+
+		assertThat(repository1).isSameAs(repository2);
+	}
+
+	/**
+	 * Проверка метода {@link ValidatorRepository#getValidator(String)} с повторным вызовом.
+	 */
+	@Test
+	public void getValidatorSameInstance()
+	{
+		ValidatorRepository repository = new ValidatorRepository(new Locale("ru", "RU"));
+
+		Validator validator1 = repository.getValidator(Length.class.getName());
+		Validator validator2 = repository.getValidator(Length.class.getName());
+
+		assertThat(validator1).isNotNull();
+		assertThat(validator1).isSameAs(validator2);
+	}
+
+	/**
+	 * Проверка метода {@link ValidatorRepository#getValidator(String)} с неизвестным ограничением.
+	 */
+	@Test
+	public void getValidatorUnknown()
+	{
+		ValidatorRepository repository = new ValidatorRepository(new Locale("ru", "RU"));
+
+		Validator validator = repository.getValidator(Deprecated.class.getName());
+
+		assertThat(validator).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link ValidatorRepository#addValidator(String, Validator)} в общем репозитории.
+	 */
+	@Test
+	public void addValidatorShared()
+	{
+		ValidatorRepository repository = ValidatorRepository.getInstance(new Locale("ru", "RU"));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> {
+			repository.addValidator(Deprecated.class.getName(), new NoNullValidator(new Locale("ru", "RU")));
+		});
+	}
+
+	/**
+	 * Проверка метода {@link ValidatorRepository#addValidator(String, Validator)} со встроенным ограничением.
+	 */
+	@Test
+	public void addValidatorBuiltIn()
+	{
+		ValidatorRepository repository = new ValidatorRepository(new Locale("ru", "RU"));
+		Validator validator = new NoNullValidator(new Locale("ru", "RU"));
+
+		repository.addValidator(NoNull.class.getName(), validator);
+
+		assertThat(repository.getValidator(NoNull.class.getName())).isNotSameAs(validator);
+	}
+}
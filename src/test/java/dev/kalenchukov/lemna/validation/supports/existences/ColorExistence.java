@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.supports.existences;
+
+import dev.kalenchukov.lemna.validation.interfaces.BatchExistable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ColorExistence implements BatchExistable<String>
+{
+	public static final AtomicInteger EXIST_CALLS = new AtomicInteger();
+
+	public static final AtomicInteger EXISTING_CALLS = new AtomicInteger();
+
+	@Override
+	public boolean exist(@NotNull String value)
+	{
+		Objects.requireNonNull(value);
+
+		EXIST_CALLS.incrementAndGet();
+
+		return value.equals("RED") || value.equals("GREEN");
+	}
+
+	@NotNull
+	@Override
+	public Set<@NotNull String> existing(@NotNull Collection<@NotNull String> values)
+	{
+		Objects.requireNonNull(values);
+
+		EXISTING_CALLS.incrementAndGet();
+
+		return values.stream()
+			.filter(value -> value.equals("RED") || value.equals("GREEN"))
+			.collect(Collectors.toSet());
+	}
+}
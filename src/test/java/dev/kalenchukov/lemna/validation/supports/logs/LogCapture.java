@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.supports.logs;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class LogCapture extends AbstractAppender implements AutoCloseable
+{
+	private final String loggerName;
+
+	private final List<String> messages = new CopyOnWriteArrayList<>();
+
+	public LogCapture(Class<?> type)
+	{
+		super("LogCapture-" + type.getName(), null, null, true, Property.EMPTY_ARRAY);
+
+		this.loggerName = type.getName();
+		this.start();
+
+		LoggerContext context = (LoggerContext) LogManager.getContext(false);
+		Configuration configuration = context.getConfiguration();
+		LoggerConfig loggerConfig = new LoggerConfig(this.loggerName, Level.DEBUG, false);
+		loggerConfig.addAppender(this, Level.DEBUG, null);
+		configuration.addLogger(this.loggerName, loggerConfig);
+		context.updateLoggers();
+	}
+
+	@Override
+	public void append(LogEvent event)
+	{
+		this.messages.add(event.getMessage().getFormattedMessage());
+	}
+
+	public List<String> getMessages()
+	{
+		return this.messages;
+	}
+
+	@Override
+	public void close()
+	{
+		LoggerContext context = (LoggerContext) LogManager.getContext(false);
+		context.getConfiguration().removeLogger(this.loggerName);
+		context.updateLoggers();
+		this.stop();
+	}
+}
@@ -195,4 +195,45 @@ public class DigitValidatorTest
 
 		assertThat(actualSize).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с отрицательным значением в поле типа {@code int}.
+	 * Знак учитывается в количестве символов.
+	 */
+	@Test
+	public void validIntTypeValueNegative()
+	{
+		class Experimental
+		{
+			@Digit(min = 3, max = 13)
+			private int digit = -12;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка с минимальным значением типа {@code long}.
+	 */
+	@Test
+	public void validLongTypeValueMinValue()
+	{
+		class Experimental
+		{
+			@Digit(min = 3, max = 13)
+			private long digit = Long.MIN_VALUE;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+}
@@ -18,15 +18,27 @@
 
 package dev.kalenchukov.lemna.validation.validators;
 
+import dev.kalenchukov.lemna.validation.ExistenceCache;
 import dev.kalenchukov.lemna.validation.Validating;
 import dev.kalenchukov.lemna.validation.Validation;
+import dev.kalenchukov.lemna.validation.ValidationEngine;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Exist;
+import dev.kalenchukov.lemna.validation.exceptions.InvalidExistenceClassException;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.lemna.validation.resources.Lifecycle;
+import dev.kalenchukov.lemna.validation.supports.existences.CountingExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.FailingExistence;
+import dev.kalenchukov.lemna.validation.supports.existences.GateExistence;
 import dev.kalenchukov.lemna.validation.supports.existences.GenderExistence;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -156,4 +168,235 @@ public class ExistValidatorTest
 
 		assertThat(actualSize).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с жизненным циклом {@link Lifecycle#SINGLETON}.
+	 */
+	@Test
+	public void validLifecycleSingleton()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingExistence.class, lifecycle = Lifecycle.SINGLETON)
+			private String value = "value";
+		}
+
+		ValidationEngine validationEngine1 = new ValidationEngine();
+		ValidationEngine validationEngine2 = new ValidationEngine();
+		validationEngine1.validate(new Experimental());
+
+		int before = CountingExistence.INSTANCES.get();
+
+		for (int index = 0; index < 10; index++)
+		{
+			validationEngine1.validate(new Experimental());
+			validationEngine2.validate(new Experimental());
+		}
+
+		assertThat(CountingExistence.INSTANCES.get() - before).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка с жизненным циклом {@link Lifecycle#ENGINE}.
+	 */
+	@Test
+	public void validLifecycleEngine()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingExistence.class, lifecycle = Lifecycle.ENGINE)
+			private String value = "value";
+		}
+
+		ValidationEngine validationEngine1 = new ValidationEngine();
+		ValidationEngine validationEngine2 = new ValidationEngine();
+
+		int before = CountingExistence.INSTANCES.get();
+
+		for (int index = 0; index < 10; index++)
+		{
+			validationEngine1.validate(new Experimental());
+			validationEngine2.validate(new Experimental());
+		}
+
+		assertThat(CountingExistence.INSTANCES.get() - before).isEqualTo(2);
+	}
+
+	/**
+	 * Проверка с жизненным циклом {@link Lifecycle#CALL}.
+	 */
+	@Test
+	public void validLifecycleCall()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingExistence.class)
+			private String value = "value";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+
+		int before = CountingExistence.INSTANCES.get();
+
+		for (int index = 0; index < 10; index++)
+		{
+			validationEngine.validate(new Experimental());
+		}
+
+		assertThat(CountingExistence.INSTANCES.get() - before).isEqualTo(10);
+	}
+
+	/**
+	 * Проверка с зарегистрированным экземпляром.
+	 */
+	@Test
+	public void validRegisteredInstance()
+	{
+		class Experimental
+		{
+			@Exist(existence = GenderExistence.class)
+			private String gender = "MALE";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine(new Locale("ru", "RU"));
+		validationEngine.getInstanceRegistry().register(GenderExistence.class, new GenderExistence()
+		{
+			@Override
+			public boolean exist(@NotNull String value)
+			{
+				return false;
+			}
+		});
+
+		List<Violating> violation = validationEngine.validate(new Experimental());
+
+		assertThat(violation.size()).isEqualTo(1);
+		assertThat(new ValidationEngine().validate(new Experimental()).size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка с кэшем результатов.
+	 */
+	@Test
+	public void validCached()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingExistence.class)
+			private String value;
+
+			Experimental(String value)
+			{
+				this.value = value;
+			}
+		}
+
+		ExistenceCache existenceCache = new ExistenceCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setExistenceCache(existenceCache);
+
+		int before = CountingExistence.INSTANCES.get();
+
+		for (int index = 0; index < 10; index++)
+		{
+			assertThat(validationEngine.validate(new Experimental("value")).size()).isEqualTo(0);
+			assertThat(validationEngine.validate(new Experimental("")).size()).isEqualTo(1);
+		}
+
+		assertThat(CountingExistence.INSTANCES.get() - before).isEqualTo(2);
+		assertThat(existenceCache.getHitCount()).isEqualTo(18L);
+		assertThat(existenceCache.getMissCount()).isEqualTo(2L);
+	}
+
+	/**
+	 * Проверка с отключённым кэшированием результатов.
+	 */
+	@Test
+	public void validCachedFalse()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingExistence.class, cached = false)
+			private String value = "value";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.setExistenceCache(new ExistenceCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+
+		int before = CountingExistence.INSTANCES.get();
+
+		for (int index = 0; index < 10; index++)
+		{
+			validationEngine.validate(new Experimental());
+		}
+
+		assertThat(CountingExistence.INSTANCES.get() - before).isEqualTo(10);
+	}
+
+	/**
+	 * Проверка асинхронной проверки существования.
+	 */
+	@Test
+	public void validAsync()
+	{
+		class Experimental
+		{
+			@Exist(existence = GateExistence.class)
+			private String variable1 = "value";
+
+			@Exist(existence = GateExistence.class)
+			private String variable2 = "";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		GateExistence.GATE = gate;
+
+		CompletableFuture<List<Violating>> actual = validationEngine.validateAsync(new Experimental());
+
+		assertThat(actual.isDone()).isFalse();
+
+		gate.complete(null);
+
+		assertThat(actual.join()).isEqualTo(validationEngine.validate(new Experimental()));
+		assertThat(actual.join().size()).isEqualTo(1);
+		assertThat(actual.join().get(0).getField()).isEqualTo("variable2");
+	}
+
+	/**
+	 * Проверка с исключением в классе проверки существования.
+	 */
+	@Test
+	public void validThrowing()
+	{
+		class Experimental
+		{
+			@Exist(existence = FailingExistence.class)
+			private String value = "value";
+		}
+
+		assertThatExceptionOfType(InvalidExistenceClassException.class).isThrownBy(() -> {
+			Validating validation = new Validation(new Experimental());
+			validation.validate();
+		}).withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Проверка с исключением в асинхронной проверке существования.
+	 */
+	@Test
+	public void validAsyncThrowing()
+	{
+		class Experimental
+		{
+			@Exist(existence = FailingExistence.class)
+			private String value = "value";
+		}
+
+		CompletableFuture<List<Violating>> actual = new ValidationEngine().validateAsync(new Experimental());
+
+		assertThatExceptionOfType(CompletionException.class)
+			.isThrownBy(actual::join)
+			.withCauseInstanceOf(InvalidExistenceClassException.class);
+	}
+}
@@ -97,6 +97,26 @@ public class LetterValidatorTest
 		assertThat(actualSize).isEqualTo(1);
 	}
 
+	/**
+	 * Проверка сообщения о нарушении с пустым значением.
+	 */
+	@Test
+	public void validValueEmptyMessage()
+	{
+		class Experimental
+		{
+			@Letter
+			private String word = "";
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		String actualMessage = violation.get(0).getMessage();
+
+		assertThat(actualMessage).isEqualTo("Значение поля '%FIELD%' должно быть из букв.");
+	}
+
 	/**
 	 * Проверка с некорректным значением.
 	 */
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.lemna.validation.validators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link MessageTemplate}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MessageTemplateTest
+{
+	/**
+	 * Проверка метода {@link MessageTemplate#render(String)} с сообщением по умолчанию.
+	 */
+	@Test
+	public void renderDefault()
+	{
+		String actual = MessageTemplate.of("%DEFAULT_MESSAGE%").render("Значение поля '%FIELD%' некорректно.");
+
+		assertThat(actual).isEqualTo("Значение поля '%FIELD%' некорректно.");
+	}
+
+	/**
+	 * Проверка метода {@link MessageTemplate#render(String)} с собственным сообщением.
+	 */
+	@Test
+	public void renderCustom()
+	{
+		String actual = MessageTemplate.of("%FIELD%: %DEFAULT_MESSAGE% (%DEFAULT_MESSAGE%)").render("ошибка");
+
+		assertThat(actual).isEqualTo("%FIELD%: ошибка (ошибка)");
+	}
+
+	/**
+	 * Проверка метода {@link MessageTemplate#render(String)} без переменной сообщения по умолчанию.
+	 */
+	@Test
+	public void renderWithoutDefault()
+	{
+		String actual = MessageTemplate.of("Некорректное значение.").render("ошибка");
+
+		assertThat(actual).isEqualTo("Некорректное значение.");
+	}
+
+	/**
+	 * Проверка метода {@link MessageTemplate#render(String)} в сравнении с {@link String#replace(CharSequence, CharSequence)}.
+	 */
+	@Test
+	public void renderSameAsReplace()
+	{
+		String[] templates = {
+			"", "%", "%%DEFAULT_MESSAGE%", "%DEFAULT_MESSAGE%%", "%X%DEFAULT_MESSAGE%",
+			"%DEFAULT_MESSAGE%DEFAULT_MESSAGE%", "a%DEFAULT_MESSAGE%b%DEFAULT_MESSAGE%c"
+		};
+
+		for (String template : templates)
+		{
+			assertThat(MessageTemplate.of(template).render("ошибка"))
+				.isEqualTo(template.replace("%DEFAULT_MESSAGE%", "ошибка"));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link MessageTemplate#of(String)} с повторным вызовом.
+	 */
+	@Test
+	public void ofSameTemplate()
+	{
+		assertThat(MessageTemplate.of("%DEFAULT_MESSAGE%")).isSameAs(MessageTemplate.of("%DEFAULT_MESSAGE%"));
+	}
+}
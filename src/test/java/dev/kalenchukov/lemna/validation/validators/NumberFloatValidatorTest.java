@@ -274,4 +274,44 @@ public class NumberFloatValidatorTest
 
 		assertThat(actualSize).isEqualTo(1);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с полем типа {@code double}.
+	 */
+	@Test
+	public void validDoublePrimitiveTypeValue()
+	{
+		class Experimental
+		{
+			@NumberFloat(min = 0.0, max = 1000.0)
+			private double sum = 785.785;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка со значением больше максимального в поле типа {@code double}.
+	 */
+	@Test
+	public void validDoublePrimitiveTypeMoreMax()
+	{
+		class Experimental
+		{
+			@NumberFloat(min = 0.0, max = 1000.0)
+			private double sum = 1000.1;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+}
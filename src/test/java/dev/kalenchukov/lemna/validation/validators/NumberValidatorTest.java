@@ -25,7 +25,9 @@ import dev.kalenchukov.lemna.validation.constraints.Number;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -474,4 +476,91 @@ public class NumberValidatorTest
 
 		assertThat(actualSize).isEqualTo(1);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с полем типа {@code int}.
+	 */
+	@Test
+	public void validIntTypeValue()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 1000)
+			private int sum = 785;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка со значением больше максимального в поле типа {@code int}.
+	 */
+	@Test
+	public void validIntTypeMoreMax()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 1000)
+			private int sum = 1001;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка со значением меньше минимального в поле типа {@code long}.
+	 */
+	@Test
+	public void validLongPrimitiveTypeValueNotCorrectLessMin()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 1000)
+			private long sum = -1L;
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link NumberValidator#bind(Field, java.lang.annotation.Annotation)}.
+	 */
+	@Test
+	public void bind() throws NoSuchFieldException
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 10)
+			private int sum1;
+
+			@Number(min = 0, max = 100)
+			private int sum2;
+		}
+
+		Field field1 = Experimental.class.getDeclaredField("sum1");
+		Field field2 = Experimental.class.getDeclaredField("sum2");
+		Validator validator = new NumberValidator(new Locale("ru", "RU"));
+		Validator bound = validator.bind(field1, field2.getDeclaredAnnotation(Number.class));
+
+		assertThat(bound).isNotSameAs(validator);
+		assertThat(validator.validInt(field1, 50)).isNotNull();
+		assertThat(bound.validInt(field1, 50)).isNull();
+		assertThat(bound.isValidInt(field1, 150)).isFalse();
+		assertThat(bound.validInt(field2, 50)).isNull();
+	}
+}
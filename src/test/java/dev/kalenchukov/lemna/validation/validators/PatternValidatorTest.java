@@ -26,7 +26,10 @@ import dev.kalenchukov.lemna.validation.constraints.Pattern;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Locale;
+import java.util.regex.PatternSyntaxException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -155,4 +158,96 @@ public class PatternValidatorTest
 
 		assertThat(actualSize).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с некорректным регулярным выражением.
+	 * Ошибка возникает при построении плана проверки, даже если значение поля {@code null}.
+	 */
+	@Test
+	public void validNotCorrectRegexp()
+	{
+		class Experimental
+		{
+			@Pattern(regexp = "[0-9A-F")
+			private String variable = null;
+		}
+
+		assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> {
+			Validating validation = new Validation(new Experimental());
+			validation.validate();
+		});
+	}
+
+	/**
+	 * Проверка с несколькими полями с одинаковым регулярным выражением.
+	 */
+	@Test
+	public void validSameRegexp()
+	{
+		class Experimental
+		{
+			@Pattern(regexp = "[0-9A-F]+")
+			private String variable1 = "09AF";
+
+			@Pattern(regexp = "[0-9A-F]+")
+			private String variable2 = "09AFZ";
+
+			@Pattern(regexp = "[0-9A-F]+")
+			private Character variable3 = 'A';
+		}
+
+		Validating validation = new Validation(new Experimental());
+		List<Violating> violation = validation.validate();
+
+		int actualSize = violation.size();
+
+		assertThat(actualSize).isEqualTo(1);
+	}
+
+	/**
+	 * Проверка метода {@link PatternValidator#bind(Field, java.lang.annotation.Annotation)}.
+	 */
+	@Test
+	public void bind() throws NoSuchFieldException
+	{
+		class Experimental
+		{
+			@Pattern(regexp = "[0-9]+")
+			private String variable1;
+
+			@Pattern(regexp = "[A-F]+")
+			private String variable2;
+		}
+
+		Field field1 = Experimental.class.getDeclaredField("variable1");
+		Field field2 = Experimental.class.getDeclaredField("variable2");
+		Validator validator = new PatternValidator(new Locale("ru", "RU"));
+		Validator bound = validator.bind(field1, field2.getDeclaredAnnotation(Pattern.class));
+
+		assertThat(validator.isValid(field1, "AF")).isFalse();
+		assertThat(bound.isValid(field1, "AF")).isTrue();
+		assertThat(bound.valid(field1, "09")).isNotNull();
+		assertThat(bound.compile(field1).test("AF")).isTrue();
+	}
+
+	/**
+	 * Проверка метода {@link PatternValidator#bind(Field, java.lang.annotation.Annotation)}
+	 * с некорректным регулярным выражением.
+	 */
+	@Test
+	public void bindNotCorrectRegexp() throws NoSuchFieldException
+	{
+		class Experimental
+		{
+			@Pattern(regexp = "[0-9A-F")
+			private Character variable;
+		}
+
+		Field field = Experimental.class.getDeclaredField("variable");
+		Validator validator = new PatternValidator(new Locale("ru", "RU"));
+
+		assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> {
+			validator.bind(field, field.getDeclaredAnnotation(Pattern.class));
+		});
+	}
+}
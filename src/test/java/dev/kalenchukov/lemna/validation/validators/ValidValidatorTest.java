@@ -20,11 +20,15 @@ package dev.kalenchukov.lemna.validation.validators;
 
 import dev.kalenchukov.lemna.validation.Validating;
 import dev.kalenchukov.lemna.validation.Validation;
+import dev.kalenchukov.lemna.validation.ValidationEngine;
 import dev.kalenchukov.lemna.validation.Violating;
 import dev.kalenchukov.lemna.validation.constraints.Pattern;
 import dev.kalenchukov.lemna.validation.constraints.Valid;
+import dev.kalenchukov.lemna.validation.exceptions.InvalidValidationClassException;
 import dev.kalenchukov.lemna.validation.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.lemna.validation.supports.validators.BrowserValidator;
+import dev.kalenchukov.lemna.validation.supports.validators.FailingValidator;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -157,4 +161,49 @@ public class ValidValidatorTest
 
 		assertThat(actualSize).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с зарегистрированным экземпляром.
+	 */
+	@Test
+	public void validRegisteredInstance()
+	{
+		class Experimental
+		{
+			@Valid(validator = BrowserValidator.class)
+			private String browser = "OPERA";
+		}
+
+		ValidationEngine validationEngine = new ValidationEngine();
+		validationEngine.getInstanceRegistry().register(BrowserValidator.class, new BrowserValidator()
+		{
+			@Override
+			public boolean valid(@NotNull final String value)
+			{
+				return true;
+			}
+		});
+
+		List<Violating> violation = validationEngine.validate(new Experimental());
+
+		assertThat(violation.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Проверка с исключением в классе проверки.
+	 */
+	@Test
+	public void validThrowing()
+	{
+		class Experimental
+		{
+			@Valid(validator = FailingValidator.class)
+			private String browser = "OPERA";
+		}
+
+		assertThatExceptionOfType(InvalidValidationClassException.class).isThrownBy(() -> {
+			Validating validation = new Validation(new Experimental());
+			validation.validate();
+		}).withCauseInstanceOf(IllegalArgumentException.class);
+	}
+}